@@ -57,4 +57,10 @@ export const todoItemAPI = {
     api.delete(`/lists/${listId}/items/${itemId}/dependencies/${dependencyId}`),
 };
 
+// Search API
+export const searchAPI = {
+  typeahead: (params = {}) => 
+    api.get('/search/items/typeahead', { params }),
+};
+
 export default api;
@@ -1,6 +1,6 @@
 import React, { useState, useEffect, use } from 'react';
 import { useAuth } from '../AuthContext';
-import { todoListAPI, todoItemAPI, authAPI } from '../api';
+import { todoListAPI, todoItemAPI, authAPI, searchAPI } from '../api';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 import { faPen, faCheck, faLink, faTrash, faCross, faX, faCalendar } from '@fortawesome/free-solid-svg-icons';
 import Swal from 'sweetalert2'
@@ -357,7 +357,7 @@ function TodoApp() {
     try {
       setLoading(true);
       const response = await todoListAPI.getAll();
-      setTodoLists(response.data);
+      setTodoLists(response.data.content || response.data);
     } catch (error) {
       if (error.response?.status === 401) {
         Swal.fire({
@@ -539,28 +539,22 @@ function TodoApp() {
     // Function to fetch and render options based on search
     const fetchAndRenderOptions = async (searchTerm = '') => {
       try {
-        // Fetch items with search parameter (no pagination limit or large size)
-        const params = {
-          name: searchTerm,
-          size: 1000 // Fetch up to 1000 items to show all available
-        };
-        
-        // Remove empty params
-        Object.keys(params).forEach(key => {
-          if (params[key] === '' || params[key] === null) {
-            delete params[key];
-          }
+        // Suggestions come from the server's in-memory name index, so every keystroke is cheap
+        const response = await searchAPI.typeahead({
+          q: searchTerm,
+          listId: selectedList.id,
+          limit: 50
         });
         
-        const response = await todoItemAPI.getAll(selectedList.id, params);
-        const allItems = response.data.content || response.data;
-        
-        // Filter out unavailable items
-        const availableItems = allItems.filter(i => 
-          i.id !== item.id && // Exclude self
-          !(item.dependencies && item.dependencies.some(dep => dep.id === i.id)) && // Exclude existing dependencies
-          !(i.dependencies && i.dependencies.some(dep => dep.id === item.id)) // Exclude obvious circular dependencies
-        );
+        // Filter out unavailable items; deeper cycles are rejected by the server
+        const availableItems = response.data
+          .map(i => ({ ...i, id: i.itemId }))
+          .filter(i => {
+            const loaded = todoItems.find(t => t.id === i.id);
+            return i.id !== item.id && // Exclude self
+              !(item.dependencies && item.dependencies.some(dep => dep.id === i.id)) && // Exclude existing dependencies
+              !(loaded && loaded.dependencies && loaded.dependencies.some(dep => dep.id === item.id)); // Exclude obvious circular dependencies
+          });
 
         if (availableItems.length === 0) {
           return '<p style="color: #999; padding: 20px; text-align: center;">No items found</p>';
@@ -630,12 +624,12 @@ function TodoApp() {
           // Show loading state
           listContainer.innerHTML = '<p style="color: #999; padding: 20px; text-align: center;">Searching...</p>';
           
-          // Debounce search (wait 500ms after user stops typing)
+          // Short debounce; suggestions are served from memory
           searchTimeout = setTimeout(async () => {
             const optionsHtml = await fetchAndRenderOptions(searchTerm);
             listContainer.innerHTML = optionsHtml;
             attachClickListeners();
-          }, 500);
+          }, 100);
         });
 
         // Function to attach click listeners to options
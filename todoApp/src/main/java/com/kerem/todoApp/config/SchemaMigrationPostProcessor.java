@@ -0,0 +1,30 @@
+package com.kerem.todoApp.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migrates the schema as soon as the DataSource is created, so Hibernate only ever
+ * validates a schema that is already up to date.
+ */
+@Component
+public class SchemaMigrationPostProcessor implements BeanPostProcessor {
+    
+    @Value("${app.migrations.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.migrations.location:classpath*:db/migration}")
+    private String location;
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource) {
+            int applied = new SchemaMigrator(dataSource, location).migrate();
+            System.out.println("Schema is up to date (" + applied + " migrations applied)");
+        }
+        return bean;
+    }
+}
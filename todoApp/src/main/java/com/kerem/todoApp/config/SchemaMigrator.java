@@ -0,0 +1,191 @@
+package com.kerem.todoApp.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Applies versioned SQL scripts named V{version}__{description}.sql in version order and
+ * records each one in schema_version. Every script runs in its own transaction, and a
+ * script edited after it was applied stops startup instead of being silently skipped.
+ */
+public class SchemaMigrator {
+    
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    
+    private final DataSource dataSource;
+    private final String location;
+    
+    public SchemaMigrator(DataSource dataSource, String location) {
+        this.dataSource = dataSource;
+        this.location = location;
+    }
+    
+    /**
+     * Apply every script not applied yet
+     * @return the number of scripts applied
+     */
+    public int migrate() {
+        List<Script> scripts = loadScripts();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE TABLE IF NOT EXISTS schema_version (version integer primary key, " +
+                            "description varchar(200) not null, checksum varchar(64) not null, " +
+                            "installed_at timestamp not null default CURRENT_TIMESTAMP)");
+                }
+                Map<Integer, String> applied = appliedChecksums(connection);
+                
+                int count = 0;
+                for (Script script : scripts) {
+                    String checksum = applied.get(script.version());
+                    if (checksum == null) {
+                        apply(connection, script);
+                        count++;
+                    } else if (!checksum.equals(script.checksum())) {
+                        throw new IllegalStateException("Migration V" + script.version() + "__" + script.description() +
+                                " was changed after it was applied; add a new migration instead");
+                    }
+                }
+                return count;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Schema migration failed: " + e.getMessage(), e);
+        }
+    }
+    
+    private void apply(Connection connection, Script script) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : splitStatements(script.sql())) {
+                    try {
+                        statement.execute(sql);
+                    } catch (SQLException e) {
+                        if (!isExistingColumn(sql, e)) {
+                            throw e;
+                        }
+                        // Added earlier by ddl-auto=update, before migrations took over the schema
+                        System.out.println("Skipping existing column in V" + script.version() + ": " + sql);
+                    }
+                }
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO schema_version (version, description, checksum) VALUES (?, ?, ?)")) {
+                insert.setInt(1, script.version());
+                insert.setString(2, script.description());
+                insert.setString(3, script.checksum());
+                insert.executeUpdate();
+            }
+            connection.commit();
+            System.out.println("Applied migration V" + script.version() + "__" + script.description());
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+    
+    private static Map<Integer, String> appliedChecksums(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+        return applied;
+    }
+    
+    List<Script> loadScripts() {
+        List<Script> scripts = new ArrayList<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location + "/V*__*.sql")) {
+                Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename() != null ? resource.getFilename() : "");
+                if (!matcher.matches()) {
+                    throw new IllegalStateException("Invalid migration file name: " + resource.getFilename());
+                }
+                String sql = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+                scripts.add(new Script(Integer.parseInt(matcher.group(1)), matcher.group(2), sql, checksum(sql)));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read migrations from " + location, e);
+        }
+        
+        scripts.sort(Comparator.comparingInt(Script::version));
+        for (int i = 1; i < scripts.size(); i++) {
+            if (scripts.get(i).version() == scripts.get(i - 1).version()) {
+                throw new IllegalStateException("Duplicate migration version V" + scripts.get(i).version());
+            }
+        }
+        return scripts;
+    }
+    
+    /**
+     * Split a script on semicolons that end a line, dropping "--" comment lines.
+     * A CREATE TRIGGER statement runs on until its closing "END;" line.
+     */
+    static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            current.append(line).append('\n');
+            boolean inTrigger = current.toString().stripLeading().toUpperCase(Locale.ROOT).startsWith("CREATE TRIGGER");
+            if (inTrigger ? trimmed.equalsIgnoreCase("END;") : trimmed.endsWith(";")) {
+                String sql = current.toString().trim();
+                statements.add(sql.substring(0, sql.length() - 1));
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+    
+    private static boolean isExistingColumn(String sql, SQLException e) {
+        String statement = sql.toUpperCase(Locale.ROOT);
+        return statement.startsWith("ALTER TABLE") && statement.contains("ADD COLUMN")
+                && e.getMessage() != null && e.getMessage().contains("duplicate column name");
+    }
+    
+    private static String checksum(String sql) {
+        try {
+            // Line endings differ between checkouts, so they are not part of the checksum
+            byte[] bytes = sql.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    record Script(int version, String description, String sql, String checksum) {
+    }
+}
@@ -2,8 +2,10 @@ package com.kerem.todoApp.config;
 
 import com.kerem.todoApp.security.AuthEntryPointJwt;
 import com.kerem.todoApp.security.AuthTokenFilter;
+import com.kerem.todoApp.security.CalibratedPasswordEncoder;
 import com.kerem.todoApp.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,8 +14,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -21,6 +21,9 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
@@ -31,6 +34,15 @@ public class SecurityConfig {
     @Autowired
     private AuthEntryPointJwt unauthorizedHandler;
     
+    @Value("${app.bcrypt.minStrength:10}")
+    private int bcryptMinStrength;
+    
+    @Value("${app.bcrypt.maxStrength:14}")
+    private int bcryptMaxStrength;
+    
+    @Value("${app.bcrypt.targetMillis:50}")
+    private long bcryptTargetMillis;
+    
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
@@ -40,6 +52,8 @@ public class SecurityConfig {
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Rehash stored passwords whose BCrypt cost differs from the calibrated one
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
     
@@ -49,8 +63,20 @@ public class SecurityConfig {
     }
     
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public CalibratedPasswordEncoder passwordEncoder() {
+        return new CalibratedPasswordEncoder(bcryptMinStrength, bcryptMaxStrength, bcryptTargetMillis);
+    }
+    
+    @Bean
+    public MeterBinder passwordEncoderMetrics(CalibratedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("password.bcrypt.cost", passwordEncoder, CalibratedPasswordEncoder::getStrength)
+                    .description("BCrypt cost chosen by startup calibration")
+                    .register(registry);
+            Gauge.builder("password.bcrypt.hash.time", passwordEncoder, CalibratedPasswordEncoder::getMeasuredHashMillis)
+                    .description("Measured BCrypt hash latency in milliseconds at the chosen cost")
+                    .register(registry);
+        };
     }
     
     @Bean
@@ -0,0 +1,47 @@
+package com.kerem.todoApp.controller;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kerem.todoApp.dto.BulkProvisionResponse;
+import com.kerem.todoApp.dto.SignupRequest;
+import com.kerem.todoApp.security.AdminAccess;
+import com.kerem.todoApp.service.UserProvisioningService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*")
+public class AdminController {
+    
+    @Autowired
+    private AdminAccess adminAccess;
+    
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+    
+    // Provision users from a JSON array; rows are validated individually
+    @PostMapping(value = "/users/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkProvisionResponse> provisionUsers(@RequestBody List<SignupRequest> requests) {
+        adminAccess.requireAdmin();
+        return ResponseEntity.ok(userProvisioningService.provisionUsers(requests));
+    }
+    
+    // Provision users from CSV (username,email,password), read from the request stream
+    @PostMapping(value = "/users/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkProvisionResponse> provisionUsersFromCsv(HttpServletRequest request) throws IOException {
+        adminAccess.requireAdmin();
+        List<SignupRequest> requests = userProvisioningService.parseCsv(request.getReader());
+        return ResponseEntity.ok(userProvisioningService.provisionUsers(requests));
+    }
+}
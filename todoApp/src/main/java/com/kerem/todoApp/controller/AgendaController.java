@@ -0,0 +1,79 @@
+package com.kerem.todoApp.controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kerem.todoApp.config.AppConfig;
+import com.kerem.todoApp.dto.AgendaResponse;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.service.AgendaService;
+
+@RestController
+@RequestMapping("/api/agenda")
+@CrossOrigin(origins = "*")
+public class AgendaController {
+    
+    @Autowired
+    private AgendaService agendaService;
+    
+    @Autowired
+    private AppConfig appConfig;
+    
+    // Items due between from and to (inclusive) across all of the current user's lists
+    @GetMapping
+    public ResponseEntity<AgendaResponse> getAgenda(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        
+        // Apply max page size limit
+        size = Math.max(1, Math.min(size, appConfig.getDefaultPageSize()));
+        
+        return ResponseEntity.ok(agendaService.getAgenda(parseDate("from", from), parseDate("to", to),
+                parseStatuses(status), cursor, size));
+    }
+    
+    private static LocalDate parseDate(String name, String value) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new InvalidOperationException("Invalid " + name + " date, expected yyyy-MM-dd.");
+        }
+    }
+    
+    /**
+     * Parse the status filter; unlike the list endpoints an unknown status is rejected,
+     * since dropping it would widen the agenda to every open status
+     */
+    private static Set<ItemStatus> parseStatuses(List<String> statuses) {
+        Set<ItemStatus> parsed = EnumSet.noneOf(ItemStatus.class);
+        if (statuses == null) {
+            return parsed;
+        }
+        for (String status : statuses) {
+            if (status.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                parsed.add(ItemStatus.valueOf(status.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidOperationException("Invalid status: " + status);
+            }
+        }
+        return parsed;
+    }
+}
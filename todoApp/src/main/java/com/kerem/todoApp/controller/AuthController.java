@@ -16,8 +16,11 @@ import com.kerem.todoApp.dto.LoginRequest;
 import com.kerem.todoApp.dto.MessageResponse;
 import com.kerem.todoApp.dto.SignupRequest;
 import com.kerem.todoApp.dto.UpdateUserRequest;
+import com.kerem.todoApp.security.LoginRateLimiter;
+import com.kerem.todoApp.security.SecurityUtils;
 import com.kerem.todoApp.service.AuthService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -28,8 +31,13 @@ public class AuthController {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+    
     @PostMapping("/login")
-    public ResponseEntity<JwtResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<JwtResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                                        HttpServletRequest request) {
+        loginRateLimiter.acquire(loginRequest.getUsername(), request.getRemoteAddr());
         JwtResponse response = authService.authenticateUser(
                 loginRequest.getUsername(), 
                 loginRequest.getPassword());
@@ -37,7 +45,9 @@ public class AuthController {
     }
     
     @PostMapping("/register")
-    public ResponseEntity<MessageResponse> registerUser(@Valid @RequestBody SignupRequest signUpRequest) {
+    public ResponseEntity<MessageResponse> registerUser(@Valid @RequestBody SignupRequest signUpRequest,
+                                                        HttpServletRequest request) {
+        loginRateLimiter.acquire(null, request.getRemoteAddr());
         authService.registerUser(
                 signUpRequest.getUsername(),
                 signUpRequest.getEmail(),
@@ -45,8 +55,16 @@ public class AuthController {
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
     
+    @PostMapping("/logout")
+    public ResponseEntity<MessageResponse> logout() {
+        authService.logout();
+        return ResponseEntity.ok(new MessageResponse("Logged out successfully!"));
+    }
+    
     @PutMapping("/update")
-    public ResponseEntity<JwtResponse> updateUser(@Valid @RequestBody UpdateUserRequest updateRequest) {
+    public ResponseEntity<JwtResponse> updateUser(@Valid @RequestBody UpdateUserRequest updateRequest,
+                                                  HttpServletRequest request) {
+        loginRateLimiter.acquire(SecurityUtils.getCurrentUserDetails().getUsername(), request.getRemoteAddr());
         JwtResponse response = authService.updateUser(
                 updateRequest.getUsername(),
                 updateRequest.getEmail(),
@@ -55,7 +73,9 @@ public class AuthController {
     }
     
     @DeleteMapping("/delete")
-    public ResponseEntity<MessageResponse> deleteAccount(@Valid @RequestBody DeleteAccountRequest deleteRequest) {
+    public ResponseEntity<MessageResponse> deleteAccount(@Valid @RequestBody DeleteAccountRequest deleteRequest,
+                                                         HttpServletRequest request) {
+        loginRateLimiter.acquire(SecurityUtils.getCurrentUserDetails().getUsername(), request.getRemoteAddr());
         authService.deleteAccount(deleteRequest.getPassword());
         return ResponseEntity.ok(new MessageResponse("Account deleted successfully!"));
     }
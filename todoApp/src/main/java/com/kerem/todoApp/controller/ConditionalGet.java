@@ -0,0 +1,25 @@
+package com.kerem.todoApp.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Responses of GET endpoints that carry an ETag. Clients may store them but must
+ * revalidate each time, which costs a version lookup when nothing changed.
+ */
+final class ConditionalGet {
+    
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
+    private ConditionalGet() {
+    }
+    
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+    
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+}
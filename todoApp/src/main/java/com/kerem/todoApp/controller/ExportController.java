@@ -0,0 +1,58 @@
+package com.kerem.todoApp.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kerem.todoApp.service.ItemExportService;
+import com.kerem.todoApp.service.ItemExportService.Format;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*")
+public class ExportController {
+    
+    @Autowired
+    private ItemExportService itemExportService;
+    
+    // Every list and item of the current user, written to the response as rows are read
+    @GetMapping
+    public void exportAccount(@RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        Format exportFormat = Format.parse(format);
+        itemExportService.exportAccount(exportFormat, () -> open(response, exportFormat, "todo-export"));
+    }
+    
+    // One list and its items
+    @GetMapping("/lists/{listId}")
+    public void exportList(@PathVariable Long listId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        Format exportFormat = Format.parse(format);
+        itemExportService.exportList(listId, exportFormat,
+                () -> open(response, exportFormat, "todo-list-" + listId));
+    }
+    
+    /**
+     * Start the response; headers are set only here so that errors raised before the
+     * export starts are still returned as JSON
+     */
+    private static OutputStream open(HttpServletResponse response, Format format, String filename)
+            throws IOException {
+        response.setContentType(format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + filename + "." + format.getExtension() + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        return response.getOutputStream();
+    }
+}
@@ -1,5 +1,8 @@
 package com.kerem.todoApp.controller;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,14 +21,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.kerem.todoApp.config.AppConfig;
 import com.kerem.todoApp.dto.ItemCreateRequest;
+import com.kerem.todoApp.dto.ItemImportRequest;
+import com.kerem.todoApp.dto.ItemImportResponse;
 import com.kerem.todoApp.dto.ItemResponse;
+import com.kerem.todoApp.dto.ItemSliceResponse;
 import com.kerem.todoApp.dto.ItemUpdateRequest;
 import com.kerem.todoApp.dto.MessageResponse;
+import com.kerem.todoApp.dto.SparseResponse;
 import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.VersionedItemRow;
+import com.kerem.todoApp.service.ItemImportService;
 import com.kerem.todoApp.service.ItemService;
+import com.kerem.todoApp.util.ETags;
+import com.kerem.todoApp.util.FieldSet;
 
 import jakarta.validation.Valid;
 
@@ -37,12 +49,15 @@ public class ItemController {
     @Autowired
     private ItemService itemService;
     
+    @Autowired
+    private ItemImportService itemImportService;
+    
     @Autowired
     private AppConfig appConfig;
     
     // Get all items in a todo list with filtering, sorting, and pagination
     @GetMapping
-    public ResponseEntity<Page<ItemResponse>> getTodoItems(
+    public ResponseEntity<Page<SparseResponse<ItemResponse>>> getTodoItems(
             @PathVariable Long listId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Boolean expired,
@@ -50,38 +65,79 @@ public class ItemController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "asc") String sortOrder,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "100") int size) {
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         
         // Apply max page size limit
         size = Math.min(size, appConfig.getDefaultPageSize());
         
-        // Parse status enum
-        ItemStatus statusEnum = null;
-        if (status != null && !status.trim().isEmpty()) {
-            try {
-                statusEnum = ItemStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                // Invalid status, will be treated as null (no filter)
-            }
+        ItemStatus statusEnum = parseStatus(status);
+        FieldSet fieldSet = FieldSet.parse(fields, ItemResponse.FIELDS.keySet());
+        
+        // Answer an unchanged page from the list version alone
+        String etag = ETags.of(itemService.getListVersion(listId), listId, statusEnum, expired, name,
+                sortBy, sortOrder, page, size, fieldSet, LocalDate.now());
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
         }
         
         // Map frontend sort field names to entity field names
         String entitySortField = mapSortField(sortBy);
         
-        // Build Sort object with case-insensitive sorting for name
-        Sort sort;
-        if ("name".equals(entitySortField)) {
-            Sort.Direction direction = "desc".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC;
-            sort = Sort.by(Sort.Order.by(entitySortField).with(direction).ignoreCase());
-        } else {
-            sort = Sort.by("desc".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC, entitySortField);
-        }
+        // Names sort by their stored normalized key, which is already case-insensitive
+        Sort sort = Sort.by("desc".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC, entitySortField);
         
         // Build Pageable
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<ItemResponse> items = itemService.getItemsForList(listId, statusEnum, name, pageable);
-        return ResponseEntity.ok(items);
+        Page<ItemResponse> items = itemService.getItemsForList(listId, statusEnum, name, expired, pageable, fieldSet);
+        return ConditionalGet.ok(etag, items.map(item -> new SparseResponse<>(item, fieldSet, ItemResponse.FIELDS)));
+    }
+    
+    // Get items by keyset: pass an empty cursor for the first slice, then each nextCursor
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ItemSliceResponse<SparseResponse<ItemResponse>>> getTodoItemsByCursor(
+            @PathVariable Long listId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean expired,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortOrder,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        
+        // Apply max page size limit
+        size = Math.max(1, Math.min(size, appConfig.getDefaultPageSize()));
+        
+        ItemStatus statusEnum = parseStatus(status);
+        FieldSet fieldSet = FieldSet.parse(fields, ItemResponse.FIELDS.keySet());
+        long version = itemService.getListVersion(listId);
+        String etag = ETags.of(version, listId, statusEnum, expired, name,
+                sortBy, sortOrder, cursor, size, fieldSet, LocalDate.now());
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        
+        ItemSliceResponse<ItemResponse> items = itemService.getItemSliceForList(listId, version, statusEnum, name,
+                expired, mapSortField(sortBy), "desc".equalsIgnoreCase(sortOrder), cursor, size, fieldSet);
+        return ConditionalGet.ok(etag, items.map(item -> new SparseResponse<>(item, fieldSet, ItemResponse.FIELDS)));
+    }
+    
+    /**
+     * Parse the status filter; an unknown status means no filter
+     */
+    private ItemStatus parseStatus(String status) {
+        if (status != null && !status.trim().isEmpty()) {
+            try {
+                return ItemStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Invalid status, will be treated as null (no filter)
+            }
+        }
+        return null;
     }
     
     /**
@@ -101,9 +157,19 @@ public class ItemController {
     
     // Get item by id
     @GetMapping("/{itemId}")
-    public ResponseEntity<ItemResponse> getTodoItem(@PathVariable Long listId, @PathVariable Long itemId) {
-        ItemResponse item = itemService.getItemById(listId, itemId);
-        return ResponseEntity.ok(item);
+    public ResponseEntity<SparseResponse<ItemResponse>> getTodoItem(@PathVariable Long listId, @PathVariable Long itemId,
+                                       @RequestParam(required = false) String fields,
+                                       WebRequest webRequest) {
+        FieldSet fieldSet = FieldSet.parse(fields, ItemResponse.FIELDS.keySet());
+        // The item and its list version come from one query, so a 304 costs no more than a full read
+        VersionedItemRow row = itemService.getItemRow(listId, itemId);
+        String etag = ETags.of(row.listVersion(), listId, itemId, fieldSet, LocalDate.now());
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        
+        ItemResponse item = itemService.toResponse(listId, row.row(), fieldSet);
+        return ConditionalGet.ok(etag, new SparseResponse<>(item, fieldSet, ItemResponse.FIELDS));
     }
 
     // Create new todo item
@@ -114,6 +180,13 @@ public class ItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedItem);
     }
 
+    // Import many items at once; rows refer to each other by ref and are reported individually
+    @PostMapping("/bulk")
+    public ResponseEntity<ItemImportResponse> importTodoItems(@PathVariable Long listId,
+                                       @RequestBody List<ItemImportRequest> itemRequests) {
+        return ResponseEntity.ok(itemImportService.importItems(listId, itemRequests));
+    }
+
     // Update todo item
     @PutMapping("/{itemId}")
     public ResponseEntity<ItemResponse> updateTodoItem(@PathVariable Long listId,
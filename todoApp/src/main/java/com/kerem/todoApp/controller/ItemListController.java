@@ -1,6 +1,9 @@
 package com.kerem.todoApp.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -11,13 +14,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.kerem.todoApp.config.AppConfig;
 import com.kerem.todoApp.dto.ItemListCreateRequest;
 import com.kerem.todoApp.dto.ItemListResponse;
 import com.kerem.todoApp.dto.ItemListUpdateRequest;
 import com.kerem.todoApp.dto.MessageResponse;
+import com.kerem.todoApp.dto.SparseResponse;
+import com.kerem.todoApp.security.SecurityUtils;
 import com.kerem.todoApp.service.ItemListService;
+import com.kerem.todoApp.util.ETags;
+import com.kerem.todoApp.util.FieldSet;
 
 import jakarta.validation.Valid;
 
@@ -29,18 +39,45 @@ public class ItemListController {
     @Autowired
     private ItemListService itemListService;
     
-    // Get all lists for current user
+    @Autowired
+    private AppConfig appConfig;
+    
+    // Get a page of the current user's lists, oldest first
     @GetMapping
-    public ResponseEntity<java.util.List<ItemListResponse>> getUserLists() {
-        java.util.List<ItemListResponse> lists = itemListService.getUserLists();
-        return ResponseEntity.ok(lists);
+    public ResponseEntity<Page<SparseResponse<ItemListResponse>>> getUserLists(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        
+        // Apply max page size limit
+        size = Math.max(1, Math.min(size, appConfig.getDefaultPageSize()));
+        FieldSet fieldSet = FieldSet.parse(fields, ItemListResponse.FIELDS.keySet());
+        
+        // The user's lists version moves with every change to any of their lists or items
+        String etag = ETags.of(itemListService.getListSetVersion(), SecurityUtils.getCurrentUserId(), page, size,
+                fieldSet);
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        
+        Page<ItemListResponse> lists = itemListService.getUserLists(PageRequest.of(page, size, Sort.by("id")), fieldSet);
+        return ConditionalGet.ok(etag, lists.map(list -> new SparseResponse<>(list, fieldSet, ItemListResponse.FIELDS)));
     }
     
     // Get list by id
     @GetMapping("/{id}")
-    public ResponseEntity<ItemListResponse> getListById(@PathVariable Long id) {
-        ItemListResponse list = itemListService.getListById(id);
-        return ResponseEntity.ok(list);
+    public ResponseEntity<SparseResponse<ItemListResponse>> getListById(@PathVariable Long id,
+                                              @RequestParam(required = false) String fields,
+                                              WebRequest webRequest) {
+        FieldSet fieldSet = FieldSet.parse(fields, ItemListResponse.FIELDS.keySet());
+        String etag = ETags.of(itemListService.getListVersion(id), id, fieldSet);
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        
+        ItemListResponse list = itemListService.getListById(id, fieldSet);
+        return ConditionalGet.ok(etag, new SparseResponse<>(list, fieldSet, ItemListResponse.FIELDS));
     }
     
     // Create new list
@@ -0,0 +1,42 @@
+package com.kerem.todoApp.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kerem.todoApp.dto.ItemSearchResult;
+import com.kerem.todoApp.dto.ItemTypeaheadResult;
+import com.kerem.todoApp.service.ItemSearchService;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*")
+public class SearchController {
+    
+    @Autowired
+    private ItemSearchService itemSearchService;
+    
+    // Full-text search over the current user's items, optionally within one list
+    @GetMapping("/items")
+    public ResponseEntity<List<ItemSearchResult>> searchItems(
+            @RequestParam String q,
+            @RequestParam(required = false) Long listId,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(itemSearchService.search(q, listId, limit));
+    }
+    
+    // Name suggestions for pickers, served from memory; cheap enough to call on every keystroke
+    @GetMapping("/items/typeahead")
+    public ResponseEntity<List<ItemTypeaheadResult>> typeaheadItems(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) Long listId,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(itemSearchService.typeahead(q, listId, limit));
+    }
+}
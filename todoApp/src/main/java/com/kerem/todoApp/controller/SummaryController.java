@@ -0,0 +1,28 @@
+package com.kerem.todoApp.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kerem.todoApp.dto.ListSummaryResponse;
+import com.kerem.todoApp.service.ListSummaryService;
+
+@RestController
+@RequestMapping("/api/summary")
+@CrossOrigin(origins = "*")
+public class SummaryController {
+    
+    @Autowired
+    private ListSummaryService listSummaryService;
+    
+    // Progress of each of the current user's lists, for the dashboard
+    @GetMapping
+    public ResponseEntity<List<ListSummaryResponse>> getSummary() {
+        return ResponseEntity.ok(listSummaryService.getSummaries());
+    }
+}
@@ -0,0 +1,17 @@
+package com.kerem.todoApp.dto;
+
+import java.time.LocalDate;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+import lombok.Data;
+
+@Data
+public class AgendaItemResponse {
+    private Long id;
+    private Long listId;
+    private String listName;
+    private String name;
+    private ItemStatus status;
+    private LocalDate deadline;
+}
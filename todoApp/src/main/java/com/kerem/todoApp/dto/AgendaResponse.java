@@ -0,0 +1,20 @@
+package com.kerem.todoApp.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AgendaResponse {
+    // The day the buckets were split on
+    private LocalDate today;
+    private List<AgendaItemResponse> overdue;
+    private List<AgendaItemResponse> dueToday;
+    private List<AgendaItemResponse> upcoming;
+    private boolean hasNext;
+    // Pass back as the cursor parameter to fetch the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.kerem.todoApp.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkProvisionResponse {
+    private int created;
+    private int failed;
+    private long elapsedMillis;
+    private List<BulkProvisionRowResult> results;
+}
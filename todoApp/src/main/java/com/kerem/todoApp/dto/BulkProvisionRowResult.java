@@ -0,0 +1,23 @@
+package com.kerem.todoApp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkProvisionRowResult {
+    
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE,
+        ALREADY_EXISTS,
+        FAILED
+    }
+    
+    // Zero-based position of the row in the request
+    private int row;
+    private String username;
+    private Status status;
+    private String message;
+}
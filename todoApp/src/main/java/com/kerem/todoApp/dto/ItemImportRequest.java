@@ -0,0 +1,31 @@
+package com.kerem.todoApp.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class ItemImportRequest {
+    // Client-chosen id of the row, used by other rows of the same import to refer to it
+    @NotBlank(message = "Ref is required")
+    @Size(max = 100, message = "Ref cannot exceed 100 characters")
+    private String ref;
+    
+    @NotBlank(message = "Item name is required")
+    @Size(min = 1, max = 200, message = "Item name must be between 1 and 200 characters")
+    private String name;
+    
+    @Size(max = 1000, message = "Description cannot exceed 1000 characters")
+    private String description;
+    
+    private LocalDate deadline;
+    private ItemStatus status;
+    
+    // Refs of the rows this item depends on
+    private List<String> dependsOn;
+}
@@ -0,0 +1,16 @@
+package com.kerem.todoApp.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemImportResponse {
+    private int created;
+    private int failed;
+    private long elapsedMillis;
+    private long itemsPerSecond;
+    private List<ItemImportRowResult> results;
+}
@@ -0,0 +1,25 @@
+package com.kerem.todoApp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemImportRowResult {
+    
+    public enum Status {
+        CREATED,
+        INVALID,
+        DUPLICATE,
+        CYCLE,
+        SKIPPED
+    }
+    
+    // Zero-based position of the row in the request
+    private int row;
+    private String ref;
+    private Status status;
+    // Id of the created item, null unless CREATED
+    private Long itemId;
+    private String message;
+}
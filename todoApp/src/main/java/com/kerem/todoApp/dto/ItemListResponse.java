@@ -1,12 +1,34 @@
 package com.kerem.todoApp.dto;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.kerem.todoApp.model.ItemStatus;
+
 import lombok.Data;
 
 @Data
 public class ItemListResponse {
+    
+    // Properties selectable with the fields parameter, in response order
+    public static final Map<String, Function<ItemListResponse, Object>> FIELDS;
+    
+    static {
+        Map<String, Function<ItemListResponse, Object>> fields = new LinkedHashMap<>();
+        fields.put("id", ItemListResponse::getId);
+        fields.put("name", ItemListResponse::getName);
+        fields.put("createdAt", ItemListResponse::getCreatedAt);
+        fields.put("itemCount", ItemListResponse::getItemCount);
+        fields.put("statusCounts", ItemListResponse::getStatusCounts);
+        FIELDS = Collections.unmodifiableMap(fields);
+    }
+    
     private Long id;
     private String name;
     private LocalDateTime createdAt;
     private int itemCount;
+    private Map<ItemStatus, Long> statusCounts;
 }
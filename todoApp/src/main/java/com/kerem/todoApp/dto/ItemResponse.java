@@ -2,12 +2,36 @@ package com.kerem.todoApp.dto;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import com.kerem.todoApp.model.ItemStatus;
 import lombok.Data;
 
 @Data
 public class ItemResponse {
+    
+    // Properties selectable with the fields parameter, in response order
+    public static final Map<String, Function<ItemResponse, Object>> FIELDS;
+    
+    static {
+        Map<String, Function<ItemResponse, Object>> fields = new LinkedHashMap<>();
+        fields.put("id", ItemResponse::getId);
+        fields.put("name", ItemResponse::getName);
+        fields.put("description", ItemResponse::getDescription);
+        fields.put("status", ItemResponse::getStatus);
+        fields.put("deadline", ItemResponse::getDeadline);
+        fields.put("createdAt", ItemResponse::getCreatedAt);
+        fields.put("completedAt", ItemResponse::getCompletedAt);
+        fields.put("listId", ItemResponse::getListId);
+        fields.put("dependencies", ItemResponse::getDependencies);
+        fields.put("expired", ItemResponse::isExpired);
+        fields.put("canBeCompleted", ItemResponse::isCanBeCompleted);
+        FIELDS = Collections.unmodifiableMap(fields);
+    }
+    
     private Long id;
     private String name;
     private String description;
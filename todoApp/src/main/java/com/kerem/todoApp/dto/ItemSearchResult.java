@@ -0,0 +1,21 @@
+package com.kerem.todoApp.dto;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemSearchResult {
+    private Long itemId;
+    private Long listId;
+    private String listName;
+    private ItemStatus status;
+    // HTML-escaped, with matched terms wrapped in <mark></mark>
+    private String name;
+    // HTML-escaped excerpt of the description around the matches; null without a description
+    private String descriptionSnippet;
+    // Higher is a better match
+    private double score;
+}
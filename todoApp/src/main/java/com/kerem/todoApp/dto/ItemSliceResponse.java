@@ -0,0 +1,26 @@
+package com.kerem.todoApp.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemSliceResponse<T> {
+    private List<T> content;
+    private boolean hasNext;
+    // Pass back as the cursor parameter to fetch the next slice; null on the last slice
+    private String nextCursor;
+    // Matching item count, refreshed only when the list changes
+    private long approximateTotal;
+    
+    /**
+     * The same slice with each item converted, like Page.map
+     */
+    public <R> ItemSliceResponse<R> map(Function<T, R> converter) {
+        return new ItemSliceResponse<>(content.stream().map(converter).toList(), hasNext, nextCursor,
+                approximateTotal);
+    }
+}
@@ -0,0 +1,15 @@
+package com.kerem.todoApp.dto;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemTypeaheadResult {
+    private Long itemId;
+    private Long listId;
+    private String name;
+    private ItemStatus status;
+}
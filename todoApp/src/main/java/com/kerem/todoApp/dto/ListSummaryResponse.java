@@ -0,0 +1,18 @@
+package com.kerem.todoApp.dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+import lombok.Data;
+
+@Data
+public class ListSummaryResponse {
+    private Long listId;
+    private String listName;
+    private Map<ItemStatus, Long> statusCounts;
+    private long overdue;
+    private LocalDate nextDeadline;
+    private long completedLast7Days;
+}
@@ -0,0 +1,33 @@
+package com.kerem.todoApp.dto;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.kerem.todoApp.util.FieldSet;
+
+/**
+ * A response trimmed to the fields parameter. Serialized as the response itself when every
+ * field is selected, otherwise as an object of just the selected properties.
+ */
+public final class SparseResponse<T> {
+    
+    private final T value;
+    private final FieldSet fields;
+    private final Map<String, Function<T, Object>> accessors;
+    
+    public SparseResponse(T value, FieldSet fields, Map<String, Function<T, Object>> accessors) {
+        this.value = value;
+        this.fields = fields;
+        this.accessors = accessors;
+    }
+    
+    public T getValue() {
+        return value;
+    }
+    
+    @JsonValue
+    public Object toJson() {
+        return fields.select(value, accessors);
+    }
+}
@@ -1,27 +1,52 @@
 package com.kerem.todoApp.mapper;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import com.kerem.todoApp.dto.ItemListCreateRequest;
 import com.kerem.todoApp.dto.ItemListResponse;
 import com.kerem.todoApp.dto.ItemListUpdateRequest;
 import com.kerem.todoApp.model.ItemList;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.ItemStatusCount;
 
 @Mapper(componentModel = "spring")
 public interface ItemListMapper {
     
-    @Mapping(target = "itemCount", expression = "java(itemList.getItems() != null ? itemList.getItems().size() : 0)")
-    ItemListResponse toResponse(ItemList itemList);
+    // Counts come from an aggregate query; reading getItems() would load every item of the list
+    @Mapping(target = "itemCount", ignore = true)
+    @Mapping(target = "statusCounts", ignore = true)
+    ItemListResponse toResponseWithoutCounts(ItemList itemList);
+    
+    default ItemListResponse toResponse(ItemList itemList, List<ItemStatusCount> counts) {
+        ItemListResponse response = toResponseWithoutCounts(itemList);
+        Map<ItemStatus, Long> statusCounts = new EnumMap<>(ItemStatus.class);
+        for (ItemStatus status : ItemStatus.values()) {
+            statusCounts.put(status, 0L);
+        }
+        long total = 0;
+        for (ItemStatusCount count : counts) {
+            statusCounts.put(count.status(), count.count());
+            total += count.count();
+        }
+        response.setStatusCounts(statusCounts);
+        response.setItemCount((int) total);
+        return response;
+    }
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "items", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     ItemList toEntity(ItemListCreateRequest request);
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "items", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     ItemList toEntity(ItemListUpdateRequest request);
 }
@@ -9,6 +9,9 @@ import com.kerem.todoApp.dto.ItemCreateRequest;
 import com.kerem.todoApp.dto.ItemResponse;
 import com.kerem.todoApp.dto.ItemUpdateRequest;
 import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.DependencyEdge;
+import com.kerem.todoApp.repository.ItemRow;
 
 @Mapper(componentModel = "spring")
 public interface ItemMapper {
@@ -19,6 +22,30 @@ public interface ItemMapper {
     @Mapping(target = "canBeCompleted", expression = "java(item.canBeCompleted())")
     ItemResponse toResponse(Item item);
     
+    // Read path: rows come from a projection and dependencies from a batched query
+    @Mapping(target = "listId", ignore = true)
+    @Mapping(target = "dependencies", ignore = true)
+    @Mapping(target = "expired", expression = "java(row.isExpired())")
+    @Mapping(target = "canBeCompleted", ignore = true)
+    ItemResponse toResponseWithoutDependencies(ItemRow row);
+    
+    default ItemResponse toResponse(ItemRow row, Long listId, List<DependencyEdge> dependencies) {
+        ItemResponse response = toResponseWithoutDependencies(row);
+        response.setListId(listId);
+        response.setDependencies(dependencies.stream()
+            .map(edge -> {
+                ItemResponse.DependencyInfo info = new ItemResponse.DependencyInfo();
+                info.setId(edge.dependencyId());
+                info.setName(edge.dependencyName());
+                return info;
+            })
+            .collect(Collectors.toList()));
+        // Same rule as Item.canBeCompleted()
+        response.setCanBeCompleted(dependencies.stream()
+            .allMatch(edge -> ItemStatus.COMPLETED.equals(edge.dependencyStatus())));
+        return response;
+    }
+    
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "list", ignore = true)
     @Mapping(target = "dependencies", ignore = true)
@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.kerem.todoApp.util.SortKeys;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -24,6 +25,7 @@ import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -37,6 +39,7 @@ public class Item {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(columnDefinition = "integer") // SQLite rowid alias; lets ddl-auto=validate match the migrations
     private Long id;
     
     @NotBlank
@@ -44,6 +47,11 @@ public class Item {
     @Column(nullable = false)
     private String name;
     
+    // Written on every insert and update from the name, see SortKeys.forName
+    @Column(name = "name_sort_key")
+    @Setter(AccessLevel.NONE)
+    private String nameSortKey;
+    
     @Size(max = 1000)
     @Column(length = 1000)
     private String description;
@@ -83,10 +91,12 @@ public class Item {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        nameSortKey = SortKeys.forName(name);
     }
     
     @PreUpdate
     protected void onUpdate() {
+        nameSortKey = SortKeys.forName(name);
         // Auto-set completedAt when status becomes COMPLETED
         if (ItemStatus.COMPLETED.equals(this.status) && this.completedAt == null) {
             this.completedAt = LocalDateTime.now();
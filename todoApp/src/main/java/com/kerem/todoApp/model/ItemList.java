@@ -33,6 +33,7 @@ public class ItemList {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(columnDefinition = "integer") // SQLite rowid alias; lets ddl-auto=validate match the migrations
     private Long id;
     
     @NotBlank
@@ -43,6 +44,10 @@ public class ItemList {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    // Written only by ItemListVersions' update queries, so saving a loaded list never rolls it back
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "integer")
+    private long version;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
@@ -0,0 +1,140 @@
+package com.kerem.todoApp.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Dashboard counters of one list. Overdue count, next deadline and the completion
+ * slots are relative to asOf; the slot of a day is its epoch day mod 7.
+ */
+@Entity
+@Table(name = "list_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ListSummary {
+    
+    public static final int COMPLETION_DAYS = 7;
+    
+    @Id
+    @Column(name = "list_id", columnDefinition = "integer")
+    private Long listId;
+    
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf;
+    
+    @Column(name = "not_started", nullable = false)
+    private int notStarted;
+    
+    @Column(name = "in_progress", nullable = false)
+    private int inProgress;
+    
+    @Column(nullable = false)
+    private int completed;
+    
+    @Column(nullable = false)
+    private int expired;
+    
+    @Column(nullable = false)
+    private int overdue;
+    
+    @Column(name = "next_deadline")
+    private LocalDate nextDeadline;
+    
+    @Column(name = "completed_0", nullable = false)
+    private int completed0;
+    
+    @Column(name = "completed_1", nullable = false)
+    private int completed1;
+    
+    @Column(name = "completed_2", nullable = false)
+    private int completed2;
+    
+    @Column(name = "completed_3", nullable = false)
+    private int completed3;
+    
+    @Column(name = "completed_4", nullable = false)
+    private int completed4;
+    
+    @Column(name = "completed_5", nullable = false)
+    private int completed5;
+    
+    @Column(name = "completed_6", nullable = false)
+    private int completed6;
+    
+    public ListSummary(Long listId, LocalDate asOf) {
+        this.listId = listId;
+        this.asOf = asOf;
+    }
+    
+    public int getStatusCount(ItemStatus status) {
+        return switch (status) {
+            case NOT_STARTED -> notStarted;
+            case IN_PROGRESS -> inProgress;
+            case COMPLETED -> completed;
+            case EXPIRED -> expired;
+        };
+    }
+    
+    public void addStatusCount(ItemStatus status, int delta) {
+        switch (status) {
+            case NOT_STARTED -> notStarted += delta;
+            case IN_PROGRESS -> inProgress += delta;
+            case COMPLETED -> completed += delta;
+            case EXPIRED -> expired += delta;
+        }
+    }
+    
+    public int getCompletionsOn(LocalDate day) {
+        return switch (slot(day)) {
+            case 0 -> completed0;
+            case 1 -> completed1;
+            case 2 -> completed2;
+            case 3 -> completed3;
+            case 4 -> completed4;
+            case 5 -> completed5;
+            default -> completed6;
+        };
+    }
+    
+    public void addCompletionsOn(LocalDate day, int delta) {
+        setCompletionsOn(day, getCompletionsOn(day) + delta);
+    }
+    
+    public void setCompletionsOn(LocalDate day, int count) {
+        switch (slot(day)) {
+            case 0 -> completed0 = count;
+            case 1 -> completed1 = count;
+            case 2 -> completed2 = count;
+            case 3 -> completed3 = count;
+            case 4 -> completed4 = count;
+            case 5 -> completed5 = count;
+            default -> completed6 = count;
+        }
+    }
+    
+    /**
+     * Completions of the seven days up to asOf
+     */
+    public int getRecentCompletions() {
+        return completed0 + completed1 + completed2 + completed3 + completed4 + completed5 + completed6;
+    }
+    
+    /**
+     * Whether the day falls in the seven days up to asOf
+     */
+    public boolean isInCompletionWindow(LocalDate day) {
+        return !day.isAfter(asOf) && day.isAfter(asOf.minusDays(COMPLETION_DAYS));
+    }
+    
+    private static int slot(LocalDate day) {
+        return (int) Math.floorMod(day.toEpochDay(), (long) COMPLETION_DAYS);
+    }
+}
@@ -33,6 +33,7 @@ public class User {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(columnDefinition = "integer") // SQLite rowid alias; lets ddl-auto=validate match the migrations
     private Long id;
     
     @NotBlank
@@ -54,12 +55,32 @@ public class User {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
+    // Bumped whenever issued tokens must stop being accepted (profile change, account deletion)
+    @Column(name = "security_version")
+    private Integer securityVersion = 0;
+    
+    // Version of the user's set of lists; written only by ItemListVersions' update queries
+    @Column(name = "lists_version", nullable = false, insertable = false, updatable = false, columnDefinition = "integer")
+    private long listsVersion;
+    
+    // Granted by operators in the database only; read by AdminAccess
+    @Column(name = "admin", nullable = false, insertable = false, updatable = false, columnDefinition = "integer")
+    private boolean admin;
+    
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ItemList> lists = new HashSet<>();
     
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        // Start from the creation second so a reused row id never accepts tokens of a deleted account
+        if (securityVersion == null || securityVersion == 0) {
+            securityVersion = (int) (System.currentTimeMillis() / 1000);
+        }
+    }
+    
+    public void incrementSecurityVersion() {
+        securityVersion = (securityVersion == null ? 0 : securityVersion) + 1;
     }
     
     public User(String username, String email, String password) {
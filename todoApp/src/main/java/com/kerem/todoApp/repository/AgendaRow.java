@@ -0,0 +1,15 @@
+package com.kerem.todoApp.repository;
+
+import java.time.LocalDate;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+/**
+ * Read model of an item in the cross-list agenda, with the list it belongs to
+ */
+public record AgendaRow(Long id, Long listId, String listName, String name, ItemStatus status, LocalDate deadline) {
+    
+    // Select clause matching the canonical constructor, for JPQL over Item t joined to its list l
+    static final String SELECT = "SELECT new com.kerem.todoApp.repository.AgendaRow(" +
+            "t.id, l.id, l.name, t.name, t.status, t.deadline) FROM Item t JOIN t.list l";
+}
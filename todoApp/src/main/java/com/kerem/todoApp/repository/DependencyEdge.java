@@ -0,0 +1,9 @@
+package com.kerem.todoApp.repository;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+/**
+ * One dependency of an item, with just the fields a response shows
+ */
+public record DependencyEdge(Long itemId, Long dependencyId, String dependencyName, ItemStatus dependencyStatus) {
+}
@@ -0,0 +1,81 @@
+package com.kerem.todoApp.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.util.SortKeys;
+
+/**
+ * Keyset position in an item listing: the sort it belongs to and the sort key and id of
+ * the last item returned. Clients receive it as an opaque URL-safe token.
+ */
+public record ItemCursor(String sortField, boolean descending, Long lastId, Object lastValue) {
+    
+    // v2: name cursors carry the item's sort key rather than its name
+    private static final String VERSION = "v2";
+    
+    /**
+     * Cursor positioned after the given item
+     */
+    public static ItemCursor after(ItemRow row, String sortField, boolean descending) {
+        Object value = switch (sortField) {
+            case "name" -> SortKeys.forName(row.name());
+            case "deadline" -> row.deadline();
+            case "status" -> row.status();
+            default -> row.createdAt();
+        };
+        return new ItemCursor(sortField, descending, row.id(), value);
+    }
+    
+    public static ItemCursor after(Item item, String sortField, boolean descending) {
+        return after(ItemRow.of(item), sortField, descending);
+    }
+    
+    public String encode() {
+        StringBuilder raw = new StringBuilder()
+                .append(VERSION).append(':')
+                .append(sortField).append(':')
+                .append(descending ? "desc" : "asc").append(':')
+                .append(lastId);
+        // A missing value part means null, which only deadline allows
+        if (lastValue != null) {
+            raw.append(':').append(lastValue instanceof ItemStatus status ? status.name() : lastValue.toString());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static ItemCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last so sort keys containing ':' survive the split
+            String[] parts = raw.split(":", 5);
+            if (parts.length < 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidOperationException("Invalid cursor.");
+            }
+            
+            String sortField = parts[1];
+            boolean descending = "desc".equals(parts[2]);
+            Long lastId = Long.valueOf(parts[3]);
+            String value = parts.length == 5 ? parts[4] : null;
+            Object lastValue = switch (sortField) {
+                case "createdAt" -> LocalDateTime.parse(value);
+                case "name" -> value;
+                case "deadline" -> value != null ? LocalDate.parse(value) : null;
+                case "status" -> ItemStatus.valueOf(value);
+                default -> throw new InvalidOperationException("Invalid cursor.");
+            };
+            if (lastValue == null && !"deadline".equals(sortField)) {
+                throw new InvalidOperationException("Invalid cursor.");
+            }
+            return new ItemCursor(sortField, descending, lastId, lastValue);
+        } catch (IllegalArgumentException | NullPointerException | DateTimeParseException e) {
+            throw new InvalidOperationException("Invalid cursor.");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kerem.todoApp.repository;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+/**
+ * Filters of an item listing within one list; null fields do not filter. expired matches
+ * Item.isExpired(): a deadline before today on an item that is not completed.
+ */
+public record ItemFilter(Long listId, ItemStatus status, String name, Boolean expired) {
+}
@@ -2,13 +2,31 @@ package com.kerem.todoApp.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kerem.todoApp.model.ItemList;
 
 @Repository
 public interface ItemListRepository extends JpaRepository<ItemList, Long> {
-    java.util.List<ItemList> findByUserId(Long userId);
+    java.util.List<ItemList> findByUserIdOrderByIdAsc(Long userId);
+    Page<ItemList> findByUserId(Long userId, Pageable pageable);
     Optional<ItemList> findByIdAndUserId(Long id, Long userId);
+    
+    @Query("SELECT l.user.id FROM ItemList l WHERE l.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+    
+    @Query("SELECT l.version FROM ItemList l WHERE l.id = :id AND l.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE todo_lists SET version = max(version + 1, :floor) WHERE id = :id", nativeQuery = true)
+    int bumpVersion(@Param("id") Long id, @Param("floor") long floor);
 }
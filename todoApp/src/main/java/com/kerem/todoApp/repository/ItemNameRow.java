@@ -0,0 +1,9 @@
+package com.kerem.todoApp.repository;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+/**
+ * The fields of an item the typeahead index keeps
+ */
+public record ItemNameRow(Long id, Long listId, String name, ItemStatus status) {
+}
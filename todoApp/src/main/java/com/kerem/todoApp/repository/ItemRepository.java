@@ -1,9 +1,9 @@
 package com.kerem.todoApp.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,25 +13,66 @@ import com.kerem.todoApp.model.Item;
 import com.kerem.todoApp.model.ItemStatus;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
+    
+    // Written to match the partial index idx_todo_items_active_deadline, status literals included
+    String OVERDUE_ITEMS_SQL = "SELECT * FROM todo_items WHERE deadline < :today " +
+       "AND status NOT IN ('COMPLETED', 'EXPIRED')";
+    
     java.util.List<Item> findByListId(Long listId);
     
     Optional<Item> findByIdAndListId(Long id, Long listId);
     
+    // Ownership-scoped lookups: the owner check joins todo_lists in the same statement, so an
+    // item in another user's list reads the same as a missing one
+    @Query("SELECT t FROM Item t WHERE t.id = :id AND t.list.id = :listId AND t.list.user.id = :userId")
+    Optional<Item> findOwnedItem(@Param("id") Long id, @Param("listId") Long listId, @Param("userId") Long userId);
+    
+    // Read path of a single item: ownership, the item's columns and the list version in one query
+    @Query("SELECT new com.kerem.todoApp.repository.VersionedItemRow(" +
+       "t.id, t.name, t.description, t.status, t.deadline, t.createdAt, t.completedAt, l.version) " +
+       "FROM Item t JOIN t.list l WHERE t.id = :id AND l.id = :listId AND l.user.id = :userId")
+    Optional<VersionedItemRow> findOwnedItemRow(@Param("id") Long id, @Param("listId") Long listId,
+                                                @Param("userId") Long userId);
+    
+    @Query("SELECT t FROM Item t WHERE t.id IN :ids AND t.list.id = :listId AND t.list.user.id = :userId")
+    java.util.List<Item> findOwnedItems(@Param("ids") java.util.Collection<Long> ids, @Param("listId") Long listId,
+                                        @Param("userId") Long userId);
+    
     @Query("SELECT t FROM Item t WHERE t.list.id = :listId AND t.status = :status")
     java.util.List<Item> findByListIdAndStatus(@Param("listId") Long listId, @Param("status") ItemStatus status);
     
     @Query("SELECT t FROM Item t WHERE t.list.id = :listId AND LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     java.util.List<Item> findByListIdAndNameContaining(@Param("listId") Long listId, @Param("name") String name);
     
-    @Query("SELECT t FROM Item t WHERE t.list.id = :listId " +
-       "AND (:status IS NULL OR t.status = :status) " +
-       "AND (:name IS NULL OR LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%')))")
-    Page<Item> findByListIdWithFilters(
-        @Param("listId") Long listId,
-        @Param("status") ItemStatus status,
-        @Param("name") String name,
-        Pageable pageable
-    );
+    @Query(value = OVERDUE_ITEMS_SQL, nativeQuery = true)
+    java.util.List<Item> findOverdueItems(@Param("today") LocalDate today);
+    
+    // Dependencies of many items in one query, instead of initializing each item's collection
+    @Query("SELECT new com.kerem.todoApp.repository.DependencyEdge(t.id, d.id, d.name, d.status) " +
+       "FROM Item t JOIN t.dependencies d WHERE t.id IN :itemIds ORDER BY t.id, d.id")
+    java.util.List<DependencyEdge> findDependencyEdges(@Param("itemIds") java.util.Collection<Long> itemIds);
+    
+    // Every item of a user, for building the typeahead index
+    @Query("SELECT new com.kerem.todoApp.repository.ItemNameRow(t.id, l.id, t.name, t.status) " +
+       "FROM Item t JOIN t.list l WHERE l.user.id = :userId")
+    java.util.List<ItemNameRow> findNameRowsByUserId(@Param("userId") Long userId);
+    
+    // Per-status item counts of many lists in one query, answered from idx_todo_items_list_status
+    @Query("SELECT new com.kerem.todoApp.repository.ItemStatusCount(t.list.id, t.status, COUNT(t)) " +
+       "FROM Item t WHERE t.list.id IN :listIds GROUP BY t.list.id, t.status")
+    java.util.List<ItemStatusCount> countByStatusForLists(@Param("listIds") java.util.Collection<Long> listIds);
+    
+    // Open items past the day, as counted by the expired filter; a range of idx_todo_items_list_deadline
+    @Query("SELECT COUNT(t) FROM Item t WHERE t.list.id = :listId AND t.deadline < :day " +
+       "AND t.status <> com.kerem.todoApp.model.ItemStatus.COMPLETED")
+    long countOverdue(@Param("listId") Long listId, @Param("day") LocalDate day);
+    
+    @Query("SELECT MIN(t.deadline) FROM Item t WHERE t.list.id = :listId AND t.deadline >= :day " +
+       "AND t.status <> com.kerem.todoApp.model.ItemStatus.COMPLETED")
+    LocalDate findNextDeadline(@Param("listId") Long listId, @Param("day") LocalDate day);
+    
+    @Query("SELECT t.completedAt FROM Item t WHERE t.list.id = :listId " +
+       "AND t.status = com.kerem.todoApp.model.ItemStatus.COMPLETED AND t.completedAt >= :since")
+    java.util.List<LocalDateTime> findCompletionTimes(@Param("listId") Long listId, @Param("since") LocalDateTime since);
 }
-
@@ -0,0 +1,35 @@
+package com.kerem.todoApp.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+public interface ItemRepositoryCustom {
+    
+    /**
+     * One page of the matching items, ordered by the pageable's sort and then by id.
+     * Without withDescription the description column is not read and comes back null.
+     */
+    Page<ItemRow> findByFilter(ItemFilter filter, Pageable pageable, boolean withDescription);
+    
+    /**
+     * Items of a list in keyset order, starting after the cursor (or from the beginning
+     * when it is null). Each page is a range read; no rows are skipped and no count runs.
+     */
+    List<ItemRow> findPageAfter(ItemFilter filter, String sortField, boolean descending, ItemCursor after, int limit,
+                                boolean withDescription);
+    
+    long countByFilter(ItemFilter filter);
+    
+    /**
+     * Items of all of a user's lists due within [from, to], by deadline and then id, starting
+     * after the cursor. Each of the user's lists contributes a range of its deadline index.
+     */
+    List<AgendaRow> findAgenda(Long userId, LocalDate from, LocalDate to, Collection<ItemStatus> statuses,
+                               ItemCursor after, int limit);
+}
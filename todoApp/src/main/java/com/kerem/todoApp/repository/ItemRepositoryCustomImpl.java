@@ -0,0 +1,197 @@
+package com.kerem.todoApp.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.model.ItemStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<ItemRow> findByFilter(ItemFilter filter, Pageable pageable, boolean withDescription) {
+        StringBuilder jpql = new StringBuilder(withDescription ? ItemRow.SELECT : ItemRow.SELECT_WITHOUT_DESCRIPTION);
+        Map<String, Object> parameters = new HashMap<>();
+        appendFilter(jpql, parameters, filter);
+        
+        jpql.append(" ORDER BY ");
+        for (Sort.Order order : pageable.getSort()) {
+            jpql.append(sortKey(order.getProperty())).append(order.isDescending() ? " DESC" : " ASC").append(", ");
+        }
+        // Ties break on id so rows cannot move between pages
+        jpql.append("t.id ASC");
+        
+        TypedQuery<ItemRow> query = entityManager.createQuery(jpql.toString(), ItemRow.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> countByFilter(filter));
+    }
+    
+    @Override
+    public long countByFilter(ItemFilter filter) {
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(t) FROM Item t");
+        Map<String, Object> parameters = new HashMap<>();
+        appendFilter(jpql, parameters, filter);
+        
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+    
+    @Override
+    public List<ItemRow> findPageAfter(ItemFilter filter, String sortField, boolean descending, ItemCursor after, int limit,
+                                       boolean withDescription) {
+        StringBuilder jpql = new StringBuilder(withDescription ? ItemRow.SELECT : ItemRow.SELECT_WITHOUT_DESCRIPTION);
+        Map<String, Object> parameters = new HashMap<>();
+        appendFilter(jpql, parameters, filter);
+        
+        String sortKey = sortKey(sortField);
+        String greater = descending ? "<" : ">";
+        if (after != null) {
+            parameters.put("lastId", after.lastId());
+            switch (sortField) {
+                case "deadline" -> appendDeadlineKeyset(jpql, parameters, after, greater, descending);
+                case "status" -> appendStatusKeyset(jpql, parameters, after, greater, descending);
+                default -> {
+                    // The redundant bound lets SQLite start the index range at the cursor
+                    // instead of filtering the list's entries before it
+                    jpql.append(" AND ").append(sortKey).append(' ').append(greater).append("= :lastValue")
+                        .append(" AND (").append(sortKey).append(' ').append(greater).append(" :lastValue")
+                        .append(" OR (").append(sortKey).append(" = :lastValue AND t.id ").append(greater).append(" :lastId))");
+                    parameters.put("lastValue", after.lastValue());
+                }
+            }
+        }
+        
+        String direction = descending ? " DESC" : " ASC";
+        jpql.append(" ORDER BY ").append(sortKey).append(direction);
+        if ("deadline".equals(sortField)) {
+            // SQLite's own null order, spelled out because the keyset predicates rely on it
+            jpql.append(descending ? " NULLS LAST" : " NULLS FIRST");
+        }
+        jpql.append(", t.id").append(direction);
+        
+        TypedQuery<ItemRow> query = entityManager.createQuery(jpql.toString(), ItemRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+    
+    @Override
+    public List<AgendaRow> findAgenda(Long userId, LocalDate from, LocalDate to, Collection<ItemStatus> statuses,
+                                      ItemCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(AgendaRow.SELECT)
+                .append(" WHERE l.user.id = :userId AND t.deadline >= :from AND t.deadline <= :to")
+                .append(" AND t.status IN :statuses");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userId", userId);
+        parameters.put("from", from);
+        parameters.put("to", to);
+        parameters.put("statuses", statuses);
+        
+        if (after != null) {
+            // Same redundant bound as the list slices, so each page only sorts what follows the cursor
+            jpql.append(" AND t.deadline >= :lastValue")
+                .append(" AND (t.deadline > :lastValue OR (t.deadline = :lastValue AND t.id > :lastId))");
+            parameters.put("lastValue", after.lastValue());
+            parameters.put("lastId", after.lastId());
+        }
+        jpql.append(" ORDER BY t.deadline ASC, t.id ASC");
+        
+        TypedQuery<AgendaRow> query = entityManager.createQuery(jpql.toString(), AgendaRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+    
+    /**
+     * WHERE clause shared by pages, slices and counts. The expired predicate is a range on
+     * deadline so it can use the (todo_list_id, deadline) index.
+     */
+    private static void appendFilter(StringBuilder jpql, Map<String, Object> parameters, ItemFilter filter) {
+        jpql.append(" WHERE t.list.id = :listId");
+        parameters.put("listId", filter.listId());
+        
+        if (filter.status() != null) {
+            jpql.append(" AND t.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.name() != null) {
+            jpql.append(" AND LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%'))");
+            parameters.put("name", filter.name());
+        }
+        if (filter.expired() != null) {
+            jpql.append(filter.expired()
+                    ? " AND t.deadline < :today AND t.status <> :completed"
+                    : " AND (t.deadline IS NULL OR t.deadline >= :today OR t.status = :completed)");
+            parameters.put("today", LocalDate.now());
+            parameters.put("completed", ItemStatus.COMPLETED);
+        }
+    }
+    
+    private static String sortKey(String sortField) {
+        return switch (sortField) {
+            case "name" -> "t.nameSortKey";
+            case "deadline" -> "t.deadline";
+            case "status" -> "t.status";
+            case "createdAt" -> "t.createdAt";
+            default -> throw new InvalidOperationException("Cannot sort items by " + sortField);
+        };
+    }
+    
+    /**
+     * Nulls sort first ascending and last descending
+     */
+    private static void appendDeadlineKeyset(StringBuilder jpql, Map<String, Object> parameters, ItemCursor after,
+                                             String greater, boolean descending) {
+        if (after.lastValue() == null) {
+            jpql.append(descending
+                    ? " AND t.deadline IS NULL AND t.id < :lastId"
+                    : " AND ((t.deadline IS NULL AND t.id > :lastId) OR t.deadline IS NOT NULL)");
+            return;
+        }
+        jpql.append(" AND (t.deadline ").append(greater).append(" :lastValue")
+            .append(" OR (t.deadline = :lastValue AND t.id ").append(greater).append(" :lastId)")
+            .append(descending ? " OR t.deadline IS NULL)" : ")");
+        parameters.put("lastValue", after.lastValue());
+    }
+    
+    /**
+     * Statuses are stored by name, so "later" statuses are the ones whose names sort after
+     */
+    private static void appendStatusKeyset(StringBuilder jpql, Map<String, Object> parameters, ItemCursor after,
+                                           String greater, boolean descending) {
+        ItemStatus last = (ItemStatus) after.lastValue();
+        List<ItemStatus> later = new ArrayList<>();
+        for (ItemStatus candidate : ItemStatus.values()) {
+            int order = candidate.name().compareTo(last.name());
+            if (descending ? order < 0 : order > 0) {
+                later.add(candidate);
+            }
+        }
+        
+        jpql.append(" AND (");
+        if (!later.isEmpty()) {
+            jpql.append("t.status IN :laterStatuses OR ");
+            parameters.put("laterStatuses", later);
+        }
+        jpql.append("(t.status = :lastValue AND t.id ").append(greater).append(" :lastId))");
+        parameters.put("lastValue", last);
+    }
+}
@@ -0,0 +1,38 @@
+package com.kerem.todoApp.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemStatus;
+
+/**
+ * Read model of an item for list views: the columns a response shows, selected straight
+ * into an immutable record so nothing enters the persistence context.
+ */
+public record ItemRow(Long id, String name, String description, ItemStatus status, LocalDate deadline,
+                      LocalDateTime createdAt, LocalDateTime completedAt) {
+    
+    // Select clause matching the canonical constructor, for JPQL over Item t
+    static final String SELECT = "SELECT new com.kerem.todoApp.repository.ItemRow(" +
+            "t.id, t.name, t.description, t.status, t.deadline, t.createdAt, t.completedAt) FROM Item t";
+    
+    // Same, leaving the description unread for responses that do not show it
+    static final String SELECT_WITHOUT_DESCRIPTION = "SELECT new com.kerem.todoApp.repository.ItemRow(" +
+            "t.id, t.name, CAST(NULL AS String), t.status, t.deadline, t.createdAt, t.completedAt) FROM Item t";
+    
+    public static ItemRow of(Item item) {
+        return new ItemRow(item.getId(), item.getName(), item.getDescription(), item.getStatus(),
+                item.getDeadline(), item.getCreatedAt(), item.getCompletedAt());
+    }
+    
+    /**
+     * Same rule as Item.isExpired()
+     */
+    public boolean isExpired() {
+        if (deadline == null || ItemStatus.COMPLETED.equals(status)) {
+            return false;
+        }
+        return LocalDate.now().isAfter(deadline);
+    }
+}
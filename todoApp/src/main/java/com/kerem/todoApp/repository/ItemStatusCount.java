@@ -0,0 +1,9 @@
+package com.kerem.todoApp.repository;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+/**
+ * Number of items with one status in one list
+ */
+public record ItemStatusCount(Long listId, ItemStatus status, long count) {
+}
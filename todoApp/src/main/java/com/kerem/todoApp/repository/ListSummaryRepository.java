@@ -0,0 +1,13 @@
+package com.kerem.todoApp.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.kerem.todoApp.model.ListSummary;
+
+@Repository
+public interface ListSummaryRepository extends JpaRepository<ListSummary, Long> {
+    java.util.List<ListSummary> findByAsOfBefore(LocalDate day);
+}
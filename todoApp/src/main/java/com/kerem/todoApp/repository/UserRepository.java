@@ -3,7 +3,11 @@ package com.kerem.todoApp.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kerem.todoApp.model.User;
 
@@ -13,5 +17,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+    
+    @Query("SELECT COALESCE(u.securityVersion, 0) FROM User u WHERE u.id = :id")
+    Optional<Integer> findSecurityVersionById(@Param("id") Long id);
+    
+    @Query("SELECT u.listsVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findListsVersionById(@Param("id") Long id);
+    
+    @Query("SELECT u.admin FROM User u WHERE u.id = :id")
+    Optional<Boolean> findAdminById(@Param("id") Long id);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE users SET lists_version = max(lists_version + 1, :floor) WHERE id = :id", nativeQuery = true)
+    int bumpListsVersion(@Param("id") Long id, @Param("floor") long floor);
+    
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE users SET lists_version = max(lists_version + 1, :floor) " +
+            "WHERE id = (SELECT user_id FROM todo_lists WHERE id = :listId)", nativeQuery = true)
+    int bumpListsVersionOfList(@Param("listId") Long listId, @Param("floor") long floor);
 }
 
@@ -0,0 +1,18 @@
+package com.kerem.todoApp.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.kerem.todoApp.model.ItemStatus;
+
+/**
+ * An item read for display together with the version of its list, for the item's ETag
+ */
+public record VersionedItemRow(ItemRow row, long listVersion) {
+    
+    // Flat form for JPQL constructor expressions, which cannot nest
+    public VersionedItemRow(Long id, String name, String description, ItemStatus status, LocalDate deadline,
+                            LocalDateTime createdAt, LocalDateTime completedAt, long listVersion) {
+        this(new ItemRow(id, name, description, status, deadline, createdAt, completedAt), listVersion);
+    }
+}
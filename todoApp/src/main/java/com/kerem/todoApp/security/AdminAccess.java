@@ -0,0 +1,28 @@
+package com.kerem.todoApp.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.exception.UnauthorizedAccessException;
+import com.kerem.todoApp.repository.UserRepository;
+
+/**
+ * Admin check for operator endpoints, based on the users.admin column. Usernames can be
+ * registered and changed freely, so the check never looks at them.
+ */
+@Component
+public class AdminAccess {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    /**
+     * Throw unless the current user is an admin
+     */
+    public void requireAdmin() {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (!userRepository.findAdminById(userId).orElse(false)) {
+            throw new UnauthorizedAccessException("Admin access required");
+        }
+    }
+}
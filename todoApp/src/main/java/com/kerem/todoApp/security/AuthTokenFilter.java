@@ -3,6 +3,7 @@ package com.kerem.todoApp.security;
 import java.io.IOException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,17 +25,30 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
     
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    // Build the principal from signed claims instead of loading the user on every request
+    @Value("${app.jwtStatelessPrincipal:true}")
+    private boolean statelessPrincipal;
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            JwtClaims claims = jwt != null ? jwtUtils.verifyJwtToken(jwt) : null;
+            if (claims != null && tokenRevocationService.isRevoked(claims)) {
+                claims = null;
+            }
+            UserDetails userDetails = claims != null ? loadPrincipal(claims) : null;
+            if (userDetails != null) {
+                // Keep the verified claims as credentials so logout can revoke this token
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                        userDetails, claims, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -46,6 +60,20 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * Resolve the principal for verified claims, or null if the token is stale
+     */
+    private UserDetails loadPrincipal(JwtClaims claims) {
+        if (!statelessPrincipal) {
+            return userDetailsService.loadUserByUsername(claims.username());
+        }
+        
+        if (!securityVersionRegistry.isCurrent(claims.userId(), claims.securityVersion())) {
+            return null;
+        }
+        return UserDetailsImpl.fromClaims(claims);
+    }
+    
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         
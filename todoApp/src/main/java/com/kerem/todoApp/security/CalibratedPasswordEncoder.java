@@ -0,0 +1,93 @@
+package com.kerem.todoApp.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt encoder whose cost is calibrated at startup against a latency target.
+ * Hashes stored at a lower cost are reported for upgrade, so they are rehashed
+ * on the next successful login. Hashes at a higher cost are kept, so a slow
+ * calibration run never weakens stored passwords.
+ */
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+    
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+    
+    private final int strength;
+    private final double measuredHashMillis;
+    private final BCryptPasswordEncoder delegate;
+    
+    public CalibratedPasswordEncoder(int minStrength, int maxStrength, long targetMillis) {
+        if (minStrength < 4 || maxStrength > 31 || minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt strength bounds must satisfy 4 <= min <= max <= 31");
+        }
+        
+        // Each extra cost step doubles the work, so one measurement at the minimum predicts the rest
+        double baseMillis = measure(new BCryptPasswordEncoder(minStrength));
+        int chosen = minStrength;
+        while (chosen < maxStrength && baseMillis * Math.pow(2, chosen + 1 - minStrength) <= targetMillis) {
+            chosen++;
+        }
+        
+        this.strength = chosen;
+        this.delegate = new BCryptPasswordEncoder(chosen);
+        this.measuredHashMillis = chosen == minStrength ? baseMillis : measure(delegate);
+        
+        System.out.println("BCrypt cost calibrated to " + strength + " (" +
+                String.format("%.1f", measuredHashMillis) + " ms per hash, target " + targetMillis + " ms)");
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+    
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedStrength = strengthOf(encodedPassword);
+        return storedStrength > 0 && storedStrength < strength;
+    }
+    
+    public int getStrength() {
+        return strength;
+    }
+    
+    public double getMeasuredHashMillis() {
+        return measuredHashMillis;
+    }
+    
+    /**
+     * Read the cost from a hash in the $2a$10$... format, or -1 if it is not a BCrypt hash
+     */
+    static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = encodedPassword.indexOf('$', 1) + 1;
+        if (costStart == 0 || costStart + 2 > encodedPassword.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(costStart, costStart + 2));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    private static double measure(BCryptPasswordEncoder encoder) {
+        // Warm-up run so class loading and JIT do not skew the sample
+        encoder.encode(SAMPLE_PASSWORD);
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < SAMPLES; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / SAMPLES;
+    }
+}
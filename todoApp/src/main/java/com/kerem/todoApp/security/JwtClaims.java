@@ -0,0 +1,15 @@
+package com.kerem.todoApp.security;
+
+import java.util.UUID;
+
+/**
+ * Verified claims of a JWT token, produced once per token by {@link JwtUtils#verifyJwtToken(String)}.
+ * The token id is null for tokens issued before ids were added.
+ */
+public record JwtClaims(Long userId, String username, String email, int securityVersion, UUID tokenId,
+                        long expiresAtMillis) {
+    
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,125 @@
+package com.kerem.todoApp.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Signing and verification keys by key id, decoded once at startup. New tokens are signed
+ * with the active key; tokens signed with any other key in the ring still verify, so keys
+ * can be rotated without logging everyone out. Without configured keys, app.jwtSecret is
+ * used as a single HS512 key.
+ */
+@Component
+public class JwtKeyRing {
+    
+    // Key id of app.jwtSecret; also used for tokens issued before key ids were added
+    public static final String LEGACY_KEY_ID = "default";
+    
+    @Autowired
+    private JwtKeyRingProperties properties;
+    
+    @Value("${app.jwtSecret:}")
+    private String legacySecret;
+    
+    private Map<String, SigningKey> keys;
+    private SigningKey activeKey;
+    
+    /**
+     * A decoded key; the signing key is null on nodes that only verify
+     */
+    public record SigningKey(String id, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        
+        public boolean canSign() {
+            return signingKey != null;
+        }
+    }
+    
+    @PostConstruct
+    public void init() {
+        Map<String, SigningKey> ring = new LinkedHashMap<>();
+        if (StringUtils.hasText(legacySecret)) {
+            Key key = Keys.hmacShaKeyFor(legacySecret.getBytes(StandardCharsets.UTF_8));
+            ring.put(LEGACY_KEY_ID, new SigningKey(LEGACY_KEY_ID, SignatureAlgorithm.HS512, key, key));
+        }
+        properties.getKeys().forEach((id, config) -> ring.put(id, decode(id, config)));
+        
+        String activeKeyId = StringUtils.hasText(properties.getActiveKeyId())
+                ? properties.getActiveKeyId() : LEGACY_KEY_ID;
+        if (!ring.containsKey(activeKeyId)) {
+            throw new IllegalStateException("Active JWT key '" + activeKeyId + "' is not configured");
+        }
+        
+        this.keys = Collections.unmodifiableMap(ring);
+        this.activeKey = ring.get(activeKeyId);
+        System.out.println("JWT key ring loaded with keys " + ring.keySet() + ", active key '" + activeKeyId +
+                "' (" + activeKey.algorithm().getValue() + (activeKey.canSign() ? "" : ", verify only") + ")");
+    }
+    
+    /**
+     * Key used to sign new tokens
+     */
+    public SigningKey getActiveKey() {
+        if (!activeKey.canSign()) {
+            throw new IllegalStateException("JWT key '" + activeKey.id() + "' has no private key; this node cannot issue tokens");
+        }
+        return activeKey;
+    }
+    
+    /**
+     * Key for a token's kid header, or null if unknown. Tokens without a kid use the legacy key.
+     */
+    public SigningKey resolve(String keyId) {
+        return keys.get(keyId != null ? keyId : LEGACY_KEY_ID);
+    }
+    
+    private static SigningKey decode(String id, JwtKeyRingProperties.KeyConfig config) {
+        SignatureAlgorithm algorithm;
+        try {
+            algorithm = SignatureAlgorithm.forName(config.getAlgorithm());
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("JWT key '" + id + "' uses unsupported algorithm " + config.getAlgorithm(), e);
+        }
+        
+        try {
+            if (algorithm.isHmac()) {
+                if (!StringUtils.hasText(config.getSecret())) {
+                    throw new IllegalStateException("JWT key '" + id + "' needs a secret");
+                }
+                Key key = Keys.hmacShaKeyFor(config.getSecret().getBytes(StandardCharsets.UTF_8));
+                return new SigningKey(id, algorithm, key, key);
+            }
+            
+            if (!algorithm.isEllipticCurve() && !algorithm.isRsa()) {
+                throw new IllegalStateException("JWT key '" + id + "' uses unsupported algorithm " + config.getAlgorithm());
+            }
+            if (!StringUtils.hasText(config.getPublicKey())) {
+                throw new IllegalStateException("JWT key '" + id + "' needs a public key");
+            }
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.isEllipticCurve() ? "EC" : "RSA");
+            Key publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(config.getPublicKey())));
+            Key privateKey = StringUtils.hasText(config.getPrivateKey())
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(config.getPrivateKey())))
+                    : null;
+            return new SigningKey(id, algorithm, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT key '" + id + "' could not be decoded: " + e.getMessage(), e);
+        }
+    }
+}
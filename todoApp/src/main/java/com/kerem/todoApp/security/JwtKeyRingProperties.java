@@ -0,0 +1,38 @@
+package com.kerem.todoApp.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Signing keys by key id (kid). Nodes that only verify tokens configure public keys only.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.jwt-key-ring")
+public class JwtKeyRingProperties {
+    
+    // Key id used to sign new tokens; the others are accepted for verification only
+    private String activeKeyId;
+    
+    private Map<String, KeyConfig> keys = new LinkedHashMap<>();
+    
+    @Data
+    public static class KeyConfig {
+        // HS256, HS384, HS512, ES256, ES384, ES512, RS256, RS384 or RS512
+        private String algorithm = "HS512";
+        
+        // HMAC secret
+        private String secret;
+        
+        // Base64 PKCS#8 private key, omitted on verify-only nodes
+        private String privateKey;
+        
+        // Base64 X.509 public key
+        private String publicKey;
+    }
+}
@@ -2,73 +2,165 @@ package com.kerem.todoApp.security;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtUtils {
     
-    // Update JwtUtils.java
-    @Value("${app.jwtSecret}")
-    private String jwtSecretString;
-
-    private Key jwtSecret;
-
+    @Autowired
+    private JwtKeyRing keyRing;
+    
+    // Parsers are immutable and thread-safe, so one instance serves every request
+    private JwtParser jwtParser;
+    
+    // Verified tokens keyed by SHA-256 digest of the compact token
+    private final Map<String, JwtClaims> verifiedTokens = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+    
     @PostConstruct
     public void init() {
-        this.jwtSecret = Keys.hmacShaKeyFor(jwtSecretString.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(@SuppressWarnings("rawtypes") JwsHeader header, Claims claims) {
+                return verificationKey(header);
+            }
+        }).build();
     }
     
     @Value("${app.jwtExpirationMs:86400000}")
     private int jwtExpirationMs; // 24 hours
     
+    @Value("${app.jwtCacheSize:10000}")
+    private int jwtCacheSize;
+    
     public String generateJwtToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
+        JwtKeyRing.SigningKey signingKey = keyRing.getActiveKey();
         
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
+                .setId(UUID.randomUUID().toString())
                 .setSubject((userPrincipal.getUsername()))
                 .claim("userId", userPrincipal.getId())
+                .claim("email", userPrincipal.getEmail())
+                .claim("sv", userPrincipal.getSecurityVersion())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(jwtSecret, SignatureAlgorithm.HS512)
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
     }
     
+    /**
+     * Verify the token signature and expiration once and return its claims,
+     * or null if the token is invalid. Verified tokens are cached until they expire.
+     */
+    public JwtClaims verifyJwtToken(String token) {
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        
+        JwtClaims cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedTokens.remove(digest);
+            return null;
+        }
+        
+        JwtClaims claims;
+        try {
+            Claims body = jwtParser.parseClaimsJws(token).getBody();
+            Integer securityVersion = body.get("sv", Integer.class);
+            String tokenId = body.getId();
+            claims = new JwtClaims(
+                    body.get("userId", Long.class),
+                    body.getSubject(),
+                    body.get("email", String.class),
+                    securityVersion != null ? securityVersion : 0,
+                    tokenId != null ? UUID.fromString(tokenId) : null,
+                    body.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            System.err.println("Invalid JWT token: " + e.getMessage());
+            return null;
+        }
+        
+        if (verifiedTokens.size() >= jwtCacheSize) {
+            evictVerifiedTokens(now);
+        }
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+    
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
     }
     
     public Long getUserIdFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("userId", Long.class);
+        return jwtParser.parseClaimsJws(token).getBody().get("userId", Long.class);
     }
     
     public boolean validateJwtToken(String authToken) {
-        try {
-            Jwts.parserBuilder().setSigningKey(jwtSecret).build().parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
+        return verifyJwtToken(authToken) != null;
+    }
+    
+    /**
+     * Pick the verification key by the token's kid; the header algorithm must match the key's
+     */
+    private Key verificationKey(JwsHeader<?> header) {
+        JwtKeyRing.SigningKey key = keyRing.resolve(header.getKeyId());
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key id: " + header.getKeyId());
+        }
+        if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Algorithm " + header.getAlgorithm() + " does not match signing key " + key.id());
         }
-        return false;
+        return key.verificationKey();
+    }
+    
+    /**
+     * Drop expired entries first; if the cache is still full, drop a tenth of its capacity
+     */
+    private void evictVerifiedTokens(long now) {
+        verifiedTokens.values().removeIf(claims -> claims.isExpired(now));
+        
+        int toRemove = verifiedTokens.size() - jwtCacheSize + Math.max(1, jwtCacheSize / 10);
+        Iterator<JwtClaims> iterator = verifiedTokens.values().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+    
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
     }
 }
-
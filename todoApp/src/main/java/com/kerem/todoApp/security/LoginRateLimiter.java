@@ -0,0 +1,65 @@
+package com.kerem.todoApp.security;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.exception.TooManyRequestsException;
+import com.kerem.todoApp.util.TokenBucket;
+
+/**
+ * Per-username and per-client-IP token buckets in front of password hashing
+ */
+@Component
+public class LoginRateLimiter {
+    
+    @Value("${app.loginRateLimit.usernameCapacity:5}")
+    private long usernameCapacity;
+    
+    @Value("${app.loginRateLimit.ipCapacity:20}")
+    private long ipCapacity;
+    
+    // Both bucket types refill completely over this period
+    @Value("${app.loginRateLimit.refillPeriodMs:60000}")
+    private long refillPeriodMs;
+    
+    private final Map<String, TokenBucket> usernameBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    
+    /**
+     * Take one attempt from the client's buckets, or fail with 429
+     * @param username attempted username, or null when the request has none
+     */
+    public void acquire(String username, String clientIp) {
+        if (clientIp != null) {
+            consume(ipBuckets.computeIfAbsent(clientIp,
+                    key -> new TokenBucket(ipCapacity, ipCapacity, refillPeriodMs)));
+        }
+        if (username != null) {
+            consume(usernameBuckets.computeIfAbsent(username.toLowerCase(Locale.ROOT),
+                    key -> new TokenBucket(usernameCapacity, usernameCapacity, refillPeriodMs)));
+        }
+    }
+    
+    /**
+     * Drop buckets that have refilled completely so idle clients do not accumulate
+     */
+    @Scheduled(fixedRate = 60000)
+    public void evictIdleBuckets() {
+        usernameBuckets.values().removeIf(TokenBucket::isFull);
+        ipBuckets.values().removeIf(TokenBucket::isFull);
+    }
+    
+    private void consume(TokenBucket bucket) {
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            throw new TooManyRequestsException("Too many attempts, please try again later.", retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.kerem.todoApp.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Dedicated, size-bounded pool for BCrypt work, so a burst of logins cannot occupy
+ * every request thread. Work beyond the queue limit is rejected immediately.
+ */
+@Component
+public class PasswordHashingExecutor {
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.passwordHashing.poolSize:0}")
+    private int poolSize;
+    
+    @Value("${app.passwordHashing.queueCapacity:64}")
+    private int queueCapacity;
+    
+    @Value("${app.passwordHashing.retryAfterSeconds:1}")
+    private long retryAfterSeconds;
+    
+    // Threads a bulk batch may occupy; 0 leaves one thread free for interactive logins
+    @Value("${app.passwordHashing.bulkParallelism:0}")
+    private int bulkParallelism;
+    
+    private ThreadPoolExecutor executor;
+    
+    @PostConstruct
+    public void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queued", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    /**
+     * Run password hashing work on the pool and wait for its result.
+     * Exceptions thrown by the task are rethrown unchanged.
+     */
+    public <T> T call(Supplier<T> task) {
+        Callable<T> callable = task::get;
+        Future<T> future;
+        try {
+            future = executor.submit(callable);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("Server is busy, please try again shortly.", retryAfterSeconds);
+        }
+        return await(future);
+    }
+    
+    /**
+     * Apply a task to every input on the pool and return the results in input order.
+     * The inputs are split into a few slices so a large batch occupies a bounded
+     * number of threads and queue slots.
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R> List<R> mapAll(List<T> inputs, Function<T, R> task) {
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+        
+        int parallelism = bulkParallelism > 0 ? bulkParallelism : Math.max(1, getPoolSize() - 1);
+        int sliceSize = (inputs.size() + parallelism - 1) / parallelism;
+        Object[] results = new Object[inputs.size()];
+        
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int from = 0; from < inputs.size(); from += sliceSize) {
+                int sliceStart = from;
+                int sliceEnd = Math.min(inputs.size(), from + sliceSize);
+                futures.add(executor.submit(() -> {
+                    for (int i = sliceStart; i < sliceEnd; i++) {
+                        results[i] = task.apply(inputs.get(i));
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new ServiceOverloadedException("Server is busy, please try again shortly.", retryAfterSeconds);
+        }
+        
+        for (Future<?> future : futures) {
+            await(future);
+        }
+        return (List<R>) Arrays.asList(results);
+    }
+    
+    /**
+     * Wait for a task; exceptions thrown by the task are rethrown unchanged
+     */
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Request was interrupted, please try again.", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+    
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+}
@@ -42,4 +42,18 @@ public class SecurityUtils {
         
         return (UserDetailsImpl) authentication.getPrincipal();
     }
+    
+    /**
+     * Get the verified claims of the token that authenticated the current request,
+     * or null if the request was not authenticated with a token
+     */
+    public static JwtClaims getCurrentTokenClaims() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new AuthenticationException("No authenticated user found");
+        }
+        
+        return authentication.getCredentials() instanceof JwtClaims claims ? claims : null;
+    }
 }
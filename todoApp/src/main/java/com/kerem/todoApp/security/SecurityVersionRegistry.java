@@ -0,0 +1,60 @@
+package com.kerem.todoApp.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.repository.UserRepository;
+
+/**
+ * In-memory map of each user's current security version, used to reject tokens
+ * issued before a profile change or account deletion without loading the user
+ */
+@Component
+public class SecurityVersionRegistry {
+    
+    // Marks deleted accounts; no token can carry a negative version
+    private static final int DELETED = -1;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+    
+    /**
+     * Check whether a token's security version is still the user's current one.
+     * The first check for a user after startup loads the version from the database.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        
+        Integer current = versions.get(userId);
+        if (current == null) {
+            current = userRepository.findSecurityVersionById(userId).orElse(DELETED);
+            Integer previous = versions.putIfAbsent(userId, current);
+            if (previous != null) {
+                current = previous;
+            }
+        }
+        
+        return current != DELETED && current == tokenVersion;
+    }
+    
+    /**
+     * Record a new security version after it has been saved
+     */
+    public void update(Long userId, int version) {
+        versions.put(userId, version);
+    }
+    
+    /**
+     * Reject every token of a deleted user
+     */
+    public void revoke(Long userId) {
+        versions.put(userId, DELETED);
+    }
+}
@@ -0,0 +1,246 @@
+package com.kerem.todoApp.security;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.util.BloomFilter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Deny-list of revoked token ids. Each revoked id goes into a Bloom filter chosen by
+ * the token's expiry window and into an exact set; a filter miss rejects the common
+ * not-revoked case without touching the set. Entries expire with the tokens themselves
+ * and are appended to a file of fixed 24-byte records so they survive restarts.
+ */
+@Component
+public class TokenRevocationService {
+    
+    @Value("${app.jwtExpirationMs:86400000}")
+    private long jwtExpirationMs;
+    
+    @Value("${app.tokenRevocation.buckets:24}")
+    private int bucketCount;
+    
+    @Value("${app.tokenRevocation.expectedPerBucket:10000}")
+    private long expectedPerBucket;
+    
+    @Value("${app.tokenRevocation.falsePositiveRate:0.01}")
+    private double falsePositiveRate;
+    
+    @Value("${app.tokenRevocation.file:revoked-tokens.bin}")
+    private String fileName;
+    
+    private long bucketSpanMs;
+    
+    // Ring of filters indexed by expiry window; a slot is reused once every id in it has expired
+    private AtomicReferenceArray<Bucket> buckets;
+    
+    // Revoked token id -> token expiry in epoch millis
+    private final Map<UUID, Long> revoked = new ConcurrentHashMap<>();
+    
+    private Path file;
+    private DataOutputStream appender;
+    
+    @PostConstruct
+    public void init() {
+        bucketSpanMs = Math.max(1, jwtExpirationMs / bucketCount);
+        // Live tokens span at most bucketCount + 1 windows; one more slot absorbs clock skew
+        buckets = new AtomicReferenceArray<>(bucketCount + 2);
+        file = Path.of(fileName);
+        
+        long now = System.currentTimeMillis();
+        load(now);
+        rewrite();
+        System.out.println("Loaded " + revoked.size() + " revoked tokens from " + file);
+    }
+    
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (appender != null) {
+            appender.close();
+            appender = null;
+        }
+    }
+    
+    /**
+     * Check whether a verified token has been revoked. Does not allocate.
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        UUID tokenId = claims.tokenId();
+        if (tokenId == null) {
+            return false;
+        }
+        
+        Bucket bucket = buckets.get(slotFor(claims.expiresAtMillis()));
+        if (bucket == null || !bucket.filter.mightContain(
+                tokenId.getMostSignificantBits(), tokenId.getLeastSignificantBits())) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+    
+    /**
+     * Revoke a token until it expires. Tokens without an id or already expired are ignored.
+     */
+    public void revoke(JwtClaims claims) {
+        if (claims == null || claims.tokenId() == null || claims.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+        if (revoked.putIfAbsent(claims.tokenId(), claims.expiresAtMillis()) == null) {
+            addToFilter(claims.tokenId(), claims.expiresAtMillis());
+            append(claims.tokenId(), claims.expiresAtMillis());
+        }
+    }
+    
+    /**
+     * Drop expired ids and their filters, then rewrite the file without them
+     */
+    @Scheduled(fixedDelayString = "${app.tokenRevocation.purgeIntervalMs:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        boolean removed = revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null) {
+                synchronized (bucket) {
+                    if (bucket.maxExpiresAt.get() <= now) {
+                        buckets.compareAndSet(slot, bucket, null);
+                    }
+                }
+            }
+        }
+        
+        if (removed) {
+            rewrite();
+        }
+    }
+    
+    public int size() {
+        return revoked.size();
+    }
+    
+    private int slotFor(long expiresAtMillis) {
+        return (int) Math.floorMod(expiresAtMillis / bucketSpanMs, (long) buckets.length());
+    }
+    
+    private void addToFilter(UUID tokenId, long expiresAtMillis) {
+        int slot = slotFor(expiresAtMillis);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null) {
+                Bucket fresh = new Bucket(BloomFilter.create(expectedPerBucket, falsePositiveRate));
+                if (!buckets.compareAndSet(slot, null, fresh)) {
+                    continue;
+                }
+                bucket = fresh;
+            }
+            
+            // Purge removes a bucket under the same lock, so the id cannot land in a dropped bucket
+            synchronized (bucket) {
+                if (buckets.get(slot) == bucket) {
+                    bucket.maxExpiresAt.accumulateAndGet(expiresAtMillis, Math::max);
+                    bucket.filter.put(tokenId.getMostSignificantBits(), tokenId.getLeastSignificantBits());
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void load(long now) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                long high = in.readLong();
+                long low = in.readLong();
+                long expiresAt = in.readLong();
+                if (expiresAt > now) {
+                    UUID tokenId = new UUID(high, low);
+                    revoked.put(tokenId, expiresAt);
+                    addToFilter(tokenId, expiresAt);
+                }
+            }
+        } catch (EOFException e) {
+            // End of file; a torn trailing record from a crash is dropped
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read revoked tokens from " + file, e);
+        }
+    }
+    
+    private synchronized void append(UUID tokenId, long expiresAtMillis) {
+        try {
+            if (appender == null) {
+                appender = openAppender();
+            }
+            writeRecord(appender, tokenId, expiresAtMillis);
+            appender.flush();
+        } catch (IOException e) {
+            // The revocation still holds in memory; it is only lost if the node restarts
+            System.err.println("Cannot persist revoked token: " + e.getMessage());
+        }
+    }
+    
+    private synchronized void rewrite() {
+        try {
+            if (appender != null) {
+                appender.close();
+                appender = null;
+            }
+            
+            Path parent = file.toAbsolutePath().getParent();
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                for (Map.Entry<UUID, Long> entry : revoked.entrySet()) {
+                    writeRecord(out, entry.getKey(), entry.getValue());
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            
+            appender = openAppender();
+        } catch (IOException e) {
+            System.err.println("Cannot rewrite revoked tokens file: " + e.getMessage());
+        }
+    }
+    
+    private DataOutputStream openAppender() throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)));
+    }
+    
+    private static void writeRecord(DataOutputStream out, UUID tokenId, long expiresAtMillis) throws IOException {
+        out.writeLong(tokenId.getMostSignificantBits());
+        out.writeLong(tokenId.getLeastSignificantBits());
+        out.writeLong(expiresAtMillis);
+    }
+    
+    private static final class Bucket {
+        private final BloomFilter filter;
+        private final AtomicLong maxExpiresAt = new AtomicLong();
+        
+        private Bucket(BloomFilter filter) {
+            this.filter = filter;
+        }
+    }
+}
@@ -16,15 +16,21 @@ public class UserDetailsImpl implements UserDetails {
     private final Long id;
     private final String username;
     private final String email;
+    private final int securityVersion;
     
     @JsonIgnore
     private final String password;
     
     public UserDetailsImpl(Long id, String username, String email, String password) {
+        this(id, username, email, password, 0);
+    }
+    
+    public UserDetailsImpl(Long id, String username, String email, String password, int securityVersion) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
+        this.securityVersion = securityVersion;
     }
     
     public static UserDetailsImpl build(User user) {
@@ -32,7 +38,21 @@ public class UserDetailsImpl implements UserDetails {
             user.getId(),
             user.getUsername(),
             user.getEmail(),
-            user.getPassword()
+            user.getPassword(),
+            user.getSecurityVersion() != null ? user.getSecurityVersion() : 0
+        );
+    }
+    
+    /**
+     * Rebuild the principal from verified token claims, without a database lookup
+     */
+    public static UserDetailsImpl fromClaims(JwtClaims claims) {
+        return new UserDetailsImpl(
+            claims.userId(),
+            claims.username(),
+            claims.email(),
+            null,
+            claims.securityVersion()
         );
     }
     
@@ -49,6 +69,10 @@ public class UserDetailsImpl implements UserDetails {
         return email;
     }
     
+    public int getSecurityVersion() {
+        return securityVersion;
+    }
+    
     @Override
     public String getPassword() {
         return password;
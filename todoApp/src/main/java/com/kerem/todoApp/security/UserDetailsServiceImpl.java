@@ -4,13 +4,14 @@ import com.kerem.todoApp.model.User;
 import com.kerem.todoApp.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     
     @Autowired
     UserRepository userRepository;
@@ -23,5 +24,19 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         
         return UserDetailsImpl.build(user);
     }
+    
+    /**
+     * Store a password rehashed at the current BCrypt cost after a successful login
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + userDetails.getUsername()));
+        
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        return UserDetailsImpl.build(user);
+    }
 }
 
@@ -0,0 +1,103 @@
+package com.kerem.todoApp.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kerem.todoApp.dto.AgendaItemResponse;
+import com.kerem.todoApp.dto.AgendaResponse;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.AgendaRow;
+import com.kerem.todoApp.repository.ItemCursor;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.security.SecurityUtils;
+
+/**
+ * Items due within a date range across all of the current user's lists, ordered by
+ * deadline and paged by keyset. One query fills the overdue, today and upcoming buckets.
+ */
+@Service
+public class AgendaService {
+    
+    // Statuses shown when the caller does not ask for specific ones
+    private static final Collection<ItemStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(ItemStatus.COMPLETED));
+    
+    @Autowired
+    private ItemRepository itemRepository;
+    
+    /**
+     * One page of the agenda; pass a null or empty cursor for the first page, then each nextCursor
+     */
+    @Transactional(readOnly = true)
+    public AgendaResponse getAgenda(LocalDate from, LocalDate to, Collection<ItemStatus> statuses,
+                                    String cursor, int size) {
+        if (from.isAfter(to)) {
+            throw new InvalidOperationException("The from date must not be after the to date.");
+        }
+        ItemCursor after = decodeCursor(cursor);
+        if (statuses == null || statuses.isEmpty()) {
+            statuses = OPEN_STATUSES;
+        }
+        
+        Long userId = SecurityUtils.getCurrentUserId();
+        // One extra row tells whether another page follows
+        List<AgendaRow> rows = itemRepository.findAgenda(userId, from, to, statuses, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        
+        LocalDate today = LocalDate.now();
+        List<AgendaItemResponse> overdue = new ArrayList<>();
+        List<AgendaItemResponse> dueToday = new ArrayList<>();
+        List<AgendaItemResponse> upcoming = new ArrayList<>();
+        for (AgendaRow row : rows) {
+            if (row.deadline().isBefore(today)) {
+                overdue.add(toResponse(row));
+            } else if (row.deadline().equals(today)) {
+                dueToday.add(toResponse(row));
+            } else {
+                upcoming.add(toResponse(row));
+            }
+        }
+        
+        String nextCursor = null;
+        if (hasNext) {
+            AgendaRow last = rows.get(rows.size() - 1);
+            nextCursor = new ItemCursor("deadline", false, last.id(), last.deadline()).encode();
+        }
+        return new AgendaResponse(today, overdue, dueToday, upcoming, hasNext, nextCursor);
+    }
+    
+    /**
+     * Agenda cursors are ascending deadline cursors; anything else came from another listing
+     */
+    private static ItemCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        ItemCursor after = ItemCursor.decode(cursor);
+        if (!"deadline".equals(after.sortField()) || after.descending() || after.lastValue() == null) {
+            throw new InvalidOperationException("Cursor does not belong to this agenda.");
+        }
+        return after;
+    }
+    
+    private static AgendaItemResponse toResponse(AgendaRow row) {
+        AgendaItemResponse response = new AgendaItemResponse();
+        response.setId(row.id());
+        response.setListId(row.listId());
+        response.setListName(row.listName());
+        response.setName(row.name());
+        response.setStatus(row.status());
+        response.setDeadline(row.deadline());
+        return response;
+    }
+}
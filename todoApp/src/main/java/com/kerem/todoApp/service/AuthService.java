@@ -1,6 +1,7 @@
 package com.kerem.todoApp.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -13,8 +14,12 @@ import com.kerem.todoApp.exception.ResourceAlreadyExistsException;
 import com.kerem.todoApp.exception.ResourceNotFoundException;
 import com.kerem.todoApp.model.User;
 import com.kerem.todoApp.repository.UserRepository;
+import com.kerem.todoApp.security.JwtClaims;
 import com.kerem.todoApp.security.JwtUtils;
+import com.kerem.todoApp.security.PasswordHashingExecutor;
 import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.security.SecurityVersionRegistry;
+import com.kerem.todoApp.security.TokenRevocationService;
 import com.kerem.todoApp.security.UserDetailsImpl;
 
 @Service
@@ -32,12 +37,30 @@ public class AuthService {
     @Autowired
     private JwtUtils jwtUtils;
     
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+    
+    @Autowired
+    private UserExistenceFilter userExistenceFilter;
+    
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Autowired
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
     /**
      * Authenticate user and generate JWT token
      */
     public JwtResponse authenticateUser(String username, String password) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(username, password));
+        Authentication authentication = passwordHashingExecutor.call(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(username, password)));
         
         String jwt = jwtUtils.generateJwtToken(authentication);
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
@@ -48,23 +71,42 @@ public class AuthService {
                 userDetails.getEmail());
     }
     
+    /**
+     * Revoke the token that authenticated the current request
+     */
+    public void logout() {
+        JwtClaims claims = SecurityUtils.getCurrentTokenClaims();
+        if (claims == null) {
+            throw new AuthenticationException("No token to revoke");
+        }
+        tokenRevocationService.revoke(claims);
+    }
+    
     /**
      * Register a new user
      */
     public void registerUser(String username, String email, String password) {
         // Check if username already exists
-        if (userRepository.existsByUsername(username)) {
+        if (userExistenceFilter.usernameExists(username)) {
             throw new ResourceAlreadyExistsException("Username is already taken!");
         }
         
         // Check if email already exists
-        if (userRepository.existsByEmail(email)) {
+        if (userExistenceFilter.emailExists(email)) {
             throw new ResourceAlreadyExistsException("Email is already in use!");
         }
         
-        // Create new user's account
-        User user = new User(username, email, encoder.encode(password));
-        userRepository.save(user);
+        // Create new user's account; the unique constraints catch a concurrent registration
+        String encodedPassword = passwordHashingExecutor.call(() -> encoder.encode(password));
+        User user = new User(username, email, encodedPassword);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceAlreadyExistsException("Username or email is already in use!");
+        }
+        userExistenceFilter.add(username, email);
+        securityVersionRegistry.update(saved.getId(), saved.getSecurityVersion());
     }
     
     /**
@@ -77,34 +119,40 @@ public class AuthService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         // Verify password
-        if (!encoder.matches(password, user.getPassword())) {
+        if (!passwordHashingExecutor.call(() -> encoder.matches(password, user.getPassword()))) {
             throw new AuthenticationException("Incorrect password!");
         }
         
         // Check if new username is already taken by another user
         if (!user.getUsername().equals(newUsername) && 
-            userRepository.existsByUsername(newUsername)) {
+            userExistenceFilter.usernameExists(newUsername)) {
             throw new ResourceAlreadyExistsException("Username is already taken!");
         }
         
         // Check if new email is already used by another user
         if (!user.getEmail().equals(newEmail) && 
-            userRepository.existsByEmail(newEmail)) {
+            userExistenceFilter.emailExists(newEmail)) {
             throw new ResourceAlreadyExistsException("Email is already in use!");
         }
         
-        // Update user information
+        // Update user information and invalidate tokens issued with the old identity
         user.setUsername(newUsername);
         user.setEmail(newEmail);
-        userRepository.save(user);
+        user.incrementSecurityVersion();
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceAlreadyExistsException("Username or email is already in use!");
+        }
+        userExistenceFilter.add(newUsername, newEmail);
+        securityVersionRegistry.update(userId, user.getSecurityVersion());
         
-        // Generate new JWT with updated information
-        Authentication newAuth = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(newUsername, password));
+        // Generate new JWT with updated information; the password was already verified above
+        UserDetailsImpl updatedUserDetails = UserDetailsImpl.build(user);
+        Authentication newAuth = new UsernamePasswordAuthenticationToken(
+                updatedUserDetails, null, updatedUserDetails.getAuthorities());
         String jwt = jwtUtils.generateJwtToken(newAuth);
         
-        UserDetailsImpl updatedUserDetails = (UserDetailsImpl) newAuth.getPrincipal();
-        
         return new JwtResponse(jwt,
                 updatedUserDetails.getId(),
                 updatedUserDetails.getUsername(),
@@ -121,12 +169,16 @@ public class AuthService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
         // Verify password
-        if (!encoder.matches(password, user.getPassword())) {
+        if (!passwordHashingExecutor.call(() -> encoder.matches(password, user.getPassword()))) {
             throw new AuthenticationException("Incorrect password!");
         }
         
         // Delete the user (cascade will delete all related data)
         userRepository.delete(user);
+        securityVersionRegistry.revoke(userId);
+        listOwnershipCache.ownerDeleted(userId);
+        itemTypeaheadIndex.userDeleted(userId);
+        tokenRevocationService.revoke(SecurityUtils.getCurrentTokenClaims());
     }
 }
 
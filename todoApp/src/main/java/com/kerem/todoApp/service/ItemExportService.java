@@ -0,0 +1,325 @@
+package com.kerem.todoApp.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.exception.ResourceNotFoundException;
+import com.kerem.todoApp.security.SecurityUtils;
+
+/**
+ * Streams a user's lists and items, with their dependencies, as NDJSON or CSV. Rows are
+ * read through a forward-only cursor and written to the output as they arrive, so memory
+ * use does not grow with the size of the account.
+ */
+@Service
+public class ItemExportService {
+    
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        public static Format parse(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidOperationException("Invalid export format: " + format);
+            }
+        }
+    }
+    
+    /**
+     * Opens the response body; called once the export is known to go ahead
+     */
+    @FunctionalInterface
+    public interface Output {
+        
+        OutputStream open() throws IOException;
+    }
+    
+    // One row per item, lists without items once with empty item columns. Ordered by the
+    // (todo_list_id, created_at) index, so SQLite returns rows without sorting the export.
+    private static final String EXPORT_SELECT =
+            "SELECT l.id, l.name, l.created_at, i.id, i.name, i.description, i.status, i.deadline, " +
+            "i.created_at, i.completed_at, " +
+            "(SELECT group_concat(d.dependency_item_id, ' ') FROM todo_item_dependencies d " +
+            "WHERE d.dependent_item_id = i.id) " +
+            "FROM todo_lists l LEFT JOIN todo_items i ON i.todo_list_id = l.id ";
+    
+    public static final String EXPORT_ACCOUNT_SQL = EXPORT_SELECT +
+            "WHERE l.user_id = ? ORDER BY l.id, i.created_at, i.id";
+    
+    public static final String EXPORT_LIST_SQL = EXPORT_SELECT +
+            "WHERE l.id = ? AND l.user_id = ? ORDER BY l.id, i.created_at, i.id";
+    
+    private static final String CSV_HEADER = "listId,listName,listCreatedAt,itemId,name,description,status," +
+            "deadline,createdAt,completedAt,dependencies\r\n";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Value("${app.export.fetchSize:500}")
+    private int fetchSize;
+    
+    /**
+     * Export every list of the current user. The output is opened only after the user is
+     * resolved, so errors before that can still be answered normally.
+     */
+    public void exportAccount(Format format, Output output) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        stream(EXPORT_ACCOUNT_SQL, new Object[] { userId }, format, output.open());
+    }
+    
+    /**
+     * Export one of the current user's lists; the output is opened once ownership is checked
+     */
+    public void exportList(Long listId, Format format, Output output) throws IOException {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (!listOwnershipCache.isOwner(listId, userId)) {
+            throw new ResourceNotFoundException("Todo list not found");
+        }
+        stream(EXPORT_LIST_SQL, new Object[] { listId, userId }, format, output.open());
+    }
+    
+    private void stream(String sql, Object[] parameters, Format format, OutputStream output) throws IOException {
+        long start = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        RowWriter rows = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        rows.start();
+        // Send the first bytes right away rather than when the buffer first fills
+        writer.flush();
+        
+        long[] count = new long[1];
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rows.write(rs);
+                } catch (IOException e) {
+                    // Usually the client went away; stop reading rows
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        System.out.println("Exported " + count[0] + " rows as " + format + " in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+    
+    /**
+     * Writes result rows in one output format
+     */
+    private interface RowWriter {
+        
+        void start() throws IOException;
+        
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+    
+    /**
+     * One JSON object per line: a "list" record when a list starts, then an "item" record
+     * for each of its items
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+        
+        private final Writer writer;
+        private long currentListId = -1;
+        
+        NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+        
+        @Override
+        public void start() {
+        }
+        
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            long listId = rs.getLong(1);
+            if (listId != currentListId) {
+                currentListId = listId;
+                writer.write("{\"type\":\"list\",\"id\":");
+                writer.write(Long.toString(listId));
+                writer.write(",\"name\":");
+                writeJsonString(rs.getString(2));
+                writer.write(",\"createdAt\":");
+                writeJsonString(dateTime(rs.getTimestamp(3)));
+                writer.write("}\n");
+            }
+            
+            long itemId = rs.getLong(4);
+            if (rs.wasNull()) {
+                return;
+            }
+            writer.write("{\"type\":\"item\",\"id\":");
+            writer.write(Long.toString(itemId));
+            writer.write(",\"listId\":");
+            writer.write(Long.toString(listId));
+            writer.write(",\"name\":");
+            writeJsonString(rs.getString(5));
+            writer.write(",\"description\":");
+            writeJsonString(rs.getString(6));
+            writer.write(",\"status\":");
+            writeJsonString(rs.getString(7));
+            writer.write(",\"deadline\":");
+            writeJsonString(date(rs.getDate(8)));
+            writer.write(",\"createdAt\":");
+            writeJsonString(dateTime(rs.getTimestamp(9)));
+            writer.write(",\"completedAt\":");
+            writeJsonString(dateTime(rs.getTimestamp(10)));
+            writer.write(",\"dependencies\":[");
+            String dependencies = rs.getString(11);
+            if (dependencies != null) {
+                writer.write(dependencies.replace(' ', ','));
+            }
+            writer.write("]}\n");
+        }
+        
+        private void writeJsonString(String value) throws IOException {
+            if (value == null) {
+                writer.write("null");
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> writer.write("\\\"");
+                    case '\\' -> writer.write("\\\\");
+                    case '\n' -> writer.write("\\n");
+                    case '\r' -> writer.write("\\r");
+                    case '\t' -> writer.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            writer.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            writer.write(c);
+                        }
+                    }
+                }
+            }
+            writer.write('"');
+        }
+    }
+    
+    /**
+     * One CSV row per item with its list's columns repeated; dependencies are item ids
+     * separated by spaces
+     */
+    private static final class CsvRowWriter implements RowWriter {
+        
+        private final Writer writer;
+        
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+        
+        @Override
+        public void start() throws IOException {
+            writer.write(CSV_HEADER);
+        }
+        
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writer.write(Long.toString(rs.getLong(1)));
+            writer.write(',');
+            writeField(rs.getString(2));
+            writer.write(',');
+            writeField(dateTime(rs.getTimestamp(3)));
+            writer.write(',');
+            long itemId = rs.getLong(4);
+            writeField(rs.wasNull() ? null : Long.toString(itemId));
+            writer.write(',');
+            writeField(rs.getString(5));
+            writer.write(',');
+            writeField(rs.getString(6));
+            writer.write(',');
+            writeField(rs.getString(7));
+            writer.write(',');
+            writeField(date(rs.getDate(8)));
+            writer.write(',');
+            writeField(dateTime(rs.getTimestamp(9)));
+            writer.write(',');
+            writeField(dateTime(rs.getTimestamp(10)));
+            writer.write(',');
+            writeField(rs.getString(11));
+            writer.write("\r\n");
+        }
+        
+        /**
+         * Quote a field only when it needs it, with "" for a literal quote
+         */
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+    
+    private static String dateTime(Timestamp timestamp) {
+        return timestamp != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp.toLocalDateTime()) : null;
+    }
+    
+    private static String date(Date date) {
+        return date != null ? date.toLocalDate().toString() : null;
+    }
+}
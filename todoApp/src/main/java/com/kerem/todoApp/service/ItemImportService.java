@@ -0,0 +1,303 @@
+package com.kerem.todoApp.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kerem.todoApp.config.AppConfig;
+import com.kerem.todoApp.dto.ItemImportRequest;
+import com.kerem.todoApp.dto.ItemImportResponse;
+import com.kerem.todoApp.dto.ItemImportRowResult;
+import com.kerem.todoApp.dto.ItemImportRowResult.Status;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.exception.ResourceNotFoundException;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.ItemNameRow;
+import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.util.SortKeys;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports many items into one list in a single request. Rows refer to each other by
+ * client-chosen refs; the dependency graph is checked for cycles in memory, then items
+ * and dependency edges are inserted with JDBC batches in one transaction.
+ */
+@Service
+public class ItemImportService {
+    
+    private static final String INSERT_ITEM_SQL = "INSERT INTO todo_items (id, name, name_sort_key, description, " +
+            "status, deadline, created_at, completed_at, todo_list_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String INSERT_DEPENDENCY_SQL =
+            "INSERT INTO todo_item_dependencies (dependent_item_id, dependency_item_id) VALUES (?, ?)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Autowired
+    private ItemListVersions itemListVersions;
+    
+    @Autowired
+    private ListSummaryService listSummaryService;
+    
+    @Autowired
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
+    @Autowired
+    private AppConfig appConfig;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Value("${app.itemImport.maxRows:50000}")
+    private int maxRows;
+    
+    @Value("${app.itemImport.chunkSize:500}")
+    private int chunkSize;
+    
+    /**
+     * Import the given items into a list and report the outcome of every row. Rows that
+     * fail validation are skipped along with the rows that depend on them; the rest are
+     * inserted together or not at all.
+     */
+    @Transactional
+    public ItemImportResponse importItems(Long listId, List<ItemImportRequest> requests) {
+        if (requests.size() > maxRows) {
+            throw new InvalidOperationException("At most " + maxRows + " items can be imported per request!");
+        }
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (!listOwnershipCache.isOwner(listId, userId)) {
+            throw new ResourceNotFoundException("Todo list not found");
+        }
+        long start = System.currentTimeMillis();
+        ItemImportRowResult[] results = new ItemImportRowResult[requests.size()];
+        
+        int[][] dependencies = resolveDependencies(requests, results);
+        checkGraph(requests, dependencies, results);
+        
+        List<Integer> toInsert = new ArrayList<>();
+        for (int row = 0; row < requests.size(); row++) {
+            if (results[row] == null) {
+                toInsert.add(row);
+            }
+        }
+        if (!toInsert.isEmpty()) {
+            insert(listId, userId, requests, dependencies, toInsert, results);
+        }
+        
+        long elapsed = System.currentTimeMillis() - start;
+        long itemsPerSecond = toInsert.size() * 1000L / Math.max(1, elapsed);
+        System.out.println("Imported " + toInsert.size() + " of " + requests.size() + " items into list " + listId
+                + " in " + elapsed + " ms (" + itemsPerSecond + " items/s)");
+        return new ItemImportResponse(toInsert.size(), requests.size() - toInsert.size(), elapsed, itemsPerSecond,
+                List.of(results));
+    }
+    
+    /**
+     * Validate each row and turn its dependency refs into row numbers. Refs of invalid
+     * rows still resolve, so their dependents are reported as skipped rather than unknown.
+     */
+    private int[][] resolveDependencies(List<ItemImportRequest> requests, ItemImportRowResult[] results) {
+        Map<String, Integer> rowsByRef = new HashMap<>();
+        for (int row = 0; row < requests.size(); row++) {
+            ItemImportRequest request = requests.get(row);
+            String ref = request.getRef();
+            if (ref != null && !ref.isBlank() && rowsByRef.putIfAbsent(ref, row) != null) {
+                results[row] = result(row, request, Status.DUPLICATE, null, "Ref appears more than once in the import!");
+                continue;
+            }
+            String violation = firstViolation(request);
+            if (violation != null) {
+                results[row] = result(row, request, Status.INVALID, null, violation);
+            }
+        }
+        
+        int[][] dependencies = new int[requests.size()][];
+        for (int row = 0; row < requests.size(); row++) {
+            ItemImportRequest request = requests.get(row);
+            Set<Integer> resolved = new LinkedHashSet<>();
+            if (results[row] == null && request.getDependsOn() != null) {
+                for (String ref : request.getDependsOn()) {
+                    Integer dependency = rowsByRef.get(ref);
+                    if (dependency == null) {
+                        results[row] = result(row, request, Status.INVALID, null, "Unknown dependency: " + ref);
+                        break;
+                    }
+                    if (dependency == row) {
+                        results[row] = result(row, request, Status.INVALID, null, "Item cannot depend on itself.");
+                        break;
+                    }
+                    resolved.add(dependency);
+                }
+            }
+            dependencies[row] = results[row] == null
+                    ? resolved.stream().mapToInt(Integer::intValue).toArray()
+                    : new int[0];
+        }
+        return dependencies;
+    }
+    
+    /**
+     * Visit the rows in dependency order (Kahn's algorithm). A row is reached only after
+     * all of its dependencies, so rows never reached are part of a cycle or depend on one.
+     * On the way, dependents of rejected rows are skipped and the rules of single item
+     * writes are applied: chain depth and the completion rule.
+     */
+    private void checkGraph(List<ItemImportRequest> requests, int[][] dependencies, ItemImportRowResult[] results) {
+        int rows = requests.size();
+        int[] pending = new int[rows];
+        List<List<Integer>> dependents = new ArrayList<>(Collections.nCopies(rows, null));
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int row = 0; row < rows; row++) {
+            pending[row] = dependencies[row].length;
+            for (int dependency : dependencies[row]) {
+                if (dependents.get(dependency) == null) {
+                    dependents.set(dependency, new ArrayList<>());
+                }
+                dependents.get(dependency).add(row);
+            }
+            if (pending[row] == 0) {
+                ready.add(row);
+            }
+        }
+        
+        long maxDepth = appConfig.getMaxDependencyDepth();
+        int[] depth = new int[rows];
+        boolean[] visited = new boolean[rows];
+        while (!ready.isEmpty()) {
+            int row = ready.poll();
+            visited[row] = true;
+            if (results[row] == null) {
+                results[row] = checkRow(row, requests, dependencies[row], depth, maxDepth, results);
+            }
+            if (dependents.get(row) != null) {
+                for (int dependent : dependents.get(row)) {
+                    if (--pending[dependent] == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+        }
+        
+        for (int row = 0; row < rows; row++) {
+            if (!visited[row] && results[row] == null) {
+                results[row] = result(row, requests.get(row), Status.CYCLE, null,
+                        "Item is part of or depends on a circular dependency.");
+            }
+        }
+    }
+    
+    /**
+     * Check a row whose dependencies have all been checked; null when it can be imported
+     */
+    private ItemImportRowResult checkRow(int row, List<ItemImportRequest> requests, int[] dependencies, int[] depth,
+            long maxDepth, ItemImportRowResult[] results) {
+        ItemImportRequest request = requests.get(row);
+        boolean completed = ItemStatus.COMPLETED.equals(request.getStatus());
+        for (int dependency : dependencies) {
+            if (results[dependency] != null) {
+                return result(row, request, Status.SKIPPED, null,
+                        "Depends on row " + dependency + ", which was not imported.");
+            }
+            if (completed && !ItemStatus.COMPLETED.equals(requests.get(dependency).getStatus())) {
+                return result(row, request, Status.INVALID, null,
+                        "Cannot mark as COMPLETED! Dependencies are not complete.");
+            }
+            depth[row] = Math.max(depth[row], depth[dependency] + 1);
+        }
+        if (depth[row] > maxDepth) {
+            return result(row, request, Status.INVALID, null, "Dependency chain too deep.");
+        }
+        return null;
+    }
+    
+    private void insert(Long listId, Long userId, List<ItemImportRequest> requests, int[][] dependencies,
+            List<Integer> toInsert, ItemImportRowResult[] results) {
+        // The version bump is the transaction's first write and takes SQLite's write lock, so
+        // no other insert can take the ids handed out below before this one commits
+        itemListVersions.bump(listId);
+        long firstId = jdbcTemplate.queryForObject("SELECT coalesce(max(id), 0) + 1 FROM todo_items", Long.class);
+        long[] ids = new long[requests.size()];
+        for (int i = 0; i < toInsert.size(); i++) {
+            ids[toInsert.get(i)] = firstId + i;
+        }
+        
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, toInsert, chunkSize, (ps, row) -> {
+            ItemImportRequest request = requests.get(row);
+            ItemStatus status = statusOf(request);
+            ps.setLong(1, ids[row]);
+            ps.setString(2, request.getName());
+            ps.setString(3, SortKeys.forName(request.getName()));
+            ps.setString(4, request.getDescription());
+            ps.setString(5, status.name());
+            ps.setDate(6, request.getDeadline() != null ? Date.valueOf(request.getDeadline()) : null);
+            ps.setTimestamp(7, createdAt);
+            ps.setTimestamp(8, ItemStatus.COMPLETED.equals(status) ? createdAt : null);
+            ps.setLong(9, listId);
+        });
+        
+        List<long[]> edges = new ArrayList<>();
+        for (int row : toInsert) {
+            for (int dependency : dependencies[row]) {
+                edges.add(new long[] { ids[row], ids[dependency] });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_DEPENDENCY_SQL, edges, chunkSize, (ps, edge) -> {
+            ps.setLong(1, edge[0]);
+            ps.setLong(2, edge[1]);
+        });
+        
+        // Summarized again from the items on the next read, instead of applying each row
+        listSummaryService.discard(listId);
+        
+        List<ItemNameRow> names = new ArrayList<>(toInsert.size());
+        for (int row : toInsert) {
+            ItemImportRequest request = requests.get(row);
+            names.add(new ItemNameRow(ids[row], listId, request.getName(), statusOf(request)));
+            results[row] = result(row, request, Status.CREATED, ids[row], null);
+        }
+        itemTypeaheadIndex.itemsSaved(userId, names);
+    }
+    
+    private String firstViolation(ItemImportRequest request) {
+        Set<ConstraintViolation<ItemImportRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        // Report the same violation every time when a row breaks several constraints
+        return Collections.min(violations,
+                Comparator.comparing((ConstraintViolation<ItemImportRequest> v) -> v.getPropertyPath().toString()))
+                .getMessage();
+    }
+    
+    private static ItemStatus statusOf(ItemImportRequest request) {
+        return request.getStatus() != null ? request.getStatus() : ItemStatus.NOT_STARTED;
+    }
+    
+    private static ItemImportRowResult result(int row, ItemImportRequest request, Status status, Long itemId,
+            String message) {
+        return new ItemImportRowResult(row, request.getRef(), status, itemId, message);
+    }
+}
@@ -1,10 +1,14 @@
 package com.kerem.todoApp.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kerem.todoApp.dto.ItemListCreateRequest;
 import com.kerem.todoApp.dto.ItemListResponse;
@@ -13,8 +17,11 @@ import com.kerem.todoApp.exception.ResourceNotFoundException;
 import com.kerem.todoApp.mapper.ItemListMapper;
 import com.kerem.todoApp.model.User;
 import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.repository.ItemStatusCount;
 import com.kerem.todoApp.repository.UserRepository;
 import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.util.FieldSet;
 
 @Service
 public class ItemListService {
@@ -22,35 +29,81 @@ public class ItemListService {
     @Autowired
     private ItemListRepository itemListRepository;
     
+    @Autowired
+    private ItemRepository itemRepository;
+    
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private ItemListMapper itemListMapper;
     
+    @Autowired
+    private ItemListVersions itemListVersions;
+    
+    @Autowired
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Autowired
+    private ListSummaryService listSummaryService;
+    
+    @Autowired
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
     /**
-     * Get all lists for a user
+     * Get a page of the user's lists. Item counts of the whole page come from one
+     * aggregate query, so no list's items are loaded, and only when a selected field shows them.
      */
-    public List<ItemListResponse> getUserLists() {
+    @Transactional(readOnly = true)
+    public Page<ItemListResponse> getUserLists(Pageable pageable, FieldSet fields) {
         Long userId = SecurityUtils.getCurrentUserId();
-        return itemListRepository.findByUserId(userId).stream()
-                .map(itemListMapper::toResponse)
-                .collect(Collectors.toList());
+        Page<com.kerem.todoApp.model.ItemList> lists = itemListRepository.findByUserId(userId, pageable);
+        if (!needsCounts(fields)) {
+            return lists.map(itemListMapper::toResponseWithoutCounts);
+        }
+        if (lists.isEmpty()) {
+            return lists.map(list -> itemListMapper.toResponse(list, List.of()));
+        }
+        
+        Map<Long, List<ItemStatusCount>> counts = itemRepository.countByStatusForLists(
+                lists.getContent().stream().map(com.kerem.todoApp.model.ItemList::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ItemStatusCount::listId));
+        return lists.map(list -> itemListMapper.toResponse(list, counts.getOrDefault(list.getId(), List.of())));
+    }
+    
+    /**
+     * Version of the current user's set of lists, looked up without reading any list
+     */
+    public long getListSetVersion() {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return userRepository.findListsVersionById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+    
+    /**
+     * Version of a list the current user owns, looked up without reading its items
+     */
+    public long getListVersion(Long listId) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return itemListRepository.findVersionByIdAndUserId(listId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("List not found"));
     }
     
     /**
      * Get a single list by ID
      */
-    public ItemListResponse getListById(Long listId) {
+    @Transactional(readOnly = true)
+    public ItemListResponse getListById(Long listId, FieldSet fields) {
         Long userId = SecurityUtils.getCurrentUserId();
         com.kerem.todoApp.model.ItemList list = itemListRepository.findByIdAndUserId(listId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("List not found"));
-        return itemListMapper.toResponse(list);
+        return needsCounts(fields) ? withCounts(list) : itemListMapper.toResponseWithoutCounts(list);
     }
     
     /**
      * Create a new list
      */
+    @Transactional
     public ItemListResponse createList(ItemListCreateRequest request) {
         Long userId = SecurityUtils.getCurrentUserId();
         User user = userRepository.findById(userId)
@@ -58,12 +111,19 @@ public class ItemListService {
         
         com.kerem.todoApp.model.ItemList list = new com.kerem.todoApp.model.ItemList(request.getName(), user);
         com.kerem.todoApp.model.ItemList savedList = itemListRepository.save(list);
-        return itemListMapper.toResponse(savedList);
+        // SQLite may reuse the id of a deleted list, also one removed with its account; a fresh
+        // version and no leftover summary keep its derived values apart
+        itemListVersions.bump(savedList.getId());
+        listSummaryService.discard(savedList.getId());
+        listOwnershipCache.listCreated(savedList.getId(), userId);
+        // A new list has no items yet
+        return itemListMapper.toResponse(savedList, List.of());
     }
     
     /**
      * Update a list
      */
+    @Transactional
     public ItemListResponse updateList(Long listId, ItemListUpdateRequest request) {
         Long userId = SecurityUtils.getCurrentUserId();
         com.kerem.todoApp.model.ItemList list = itemListRepository.findByIdAndUserId(listId, userId)
@@ -71,17 +131,31 @@ public class ItemListService {
         
         list.setName(request.getName());
         com.kerem.todoApp.model.ItemList updatedList = itemListRepository.save(list);
-        return itemListMapper.toResponse(updatedList);
+        itemListVersions.bump(listId);
+        return withCounts(updatedList);
     }
     
     /**
      * Delete a list
      */
+    @Transactional
     public void deleteList(Long listId) {
         Long userId = SecurityUtils.getCurrentUserId();
         com.kerem.todoApp.model.ItemList list = itemListRepository.findByIdAndUserId(listId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("List not found"));
         
         itemListRepository.delete(list);
+        listOwnershipCache.listDeleted(listId);
+        itemTypeaheadIndex.listDeleted(userId, listId);
+        listSummaryService.discard(listId);
+        itemListVersions.bumpListSet(userId);
+    }
+    
+    private static boolean needsCounts(FieldSet fields) {
+        return fields.includes("itemCount") || fields.includes("statusCounts");
+    }
+    
+    private ItemListResponse withCounts(com.kerem.todoApp.model.ItemList list) {
+        return itemListMapper.toResponse(list, itemRepository.countByStatusForLists(List.of(list.getId())));
     }
 }
@@ -0,0 +1,40 @@
+package com.kerem.todoApp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.repository.UserRepository;
+
+/**
+ * Persisted version of each list (todo_lists.version) and of each user's set of lists
+ * (users.lists_version), bumped on every write that changes what they show. Values derived
+ * from a list, such as ETags and cached counts, can be keyed by the version.
+ */
+@Component
+public class ItemListVersions {
+    
+    @Autowired
+    private ItemListRepository itemListRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    /**
+     * Bump a list after a change to it or its items, along with its owner's set of lists,
+     * whose summaries carry item counts
+     */
+    public void bump(Long listId) {
+        // Never below the clock, so a list id reused after a delete never repeats an old version
+        long floor = System.currentTimeMillis();
+        itemListRepository.bumpVersion(listId, floor);
+        userRepository.bumpListsVersionOfList(listId, floor);
+    }
+    
+    /**
+     * Bump a user's set of lists after a list was removed from it
+     */
+    public void bumpListSet(Long userId) {
+        userRepository.bumpListsVersion(userId, System.currentTimeMillis());
+    }
+}
@@ -6,10 +6,12 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kerem.todoApp.model.Item;
 import com.kerem.todoApp.model.ItemStatus;
 import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.service.ListSummaryService.ItemSnapshot;
 
 @Service
 public class ItemScheduler {
@@ -17,23 +19,35 @@ public class ItemScheduler {
     @Autowired
     private ItemRepository itemRepository;
     
+    @Autowired
+    private ItemListVersions itemListVersions;
+    
+    @Autowired
+    private ListSummaryService listSummaryService;
+    
+    @Autowired
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
     // Run every hour (3600000 ms = 1 hour)
     @Scheduled(fixedRate = 3600000)
+    @Transactional
     public void updateExpiredItems() {
         LocalDate now = LocalDate.now();
-        List<Item> allItems = itemRepository.findAll();
+        // Only items past their deadline and not yet completed or expired
+        List<Item> overdueItems = itemRepository.findOverdueItems(now);
         
-        for (Item item : allItems) {
-            if (item.getDeadline() != null && 
-                !item.getStatus().equals(ItemStatus.COMPLETED) && 
-                item.getDeadline().isBefore(now) &&
-                !item.getStatus().equals(ItemStatus.EXPIRED)) {
-                
-                item.setStatus(ItemStatus.EXPIRED);
-                itemRepository.save(item);
-            }
+        for (Item item : overdueItems) {
+            ItemSnapshot before = ItemSnapshot.of(item);
+            item.setStatus(ItemStatus.EXPIRED);
+            itemRepository.save(item);
+            itemListVersions.bump(item.getList().getId());
+            listSummaryService.itemChanged(item.getList().getId(), before, ItemSnapshot.of(item));
+            itemTypeaheadIndex.itemStatusChanged(item.getId(), ItemStatus.EXPIRED);
         }
         
+        // Move the day-relative parts of the other summaries on to today
+        listSummaryService.rollForwardAll();
+        
         System.out.println("Checked and updated expired items at: " + now);
     }
 }
@@ -0,0 +1,135 @@
+package com.kerem.todoApp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import com.kerem.todoApp.dto.ItemSearchResult;
+import com.kerem.todoApp.dto.ItemTypeaheadResult;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.exception.ResourceNotFoundException;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.security.SecurityUtils;
+
+/**
+ * Ranked full-text search over item names and descriptions, backed by the item_search
+ * FTS5 table (see migration V4). Every term matches as a prefix and all terms must match.
+ */
+@Service
+public class ItemSearchService {
+    
+    // Name matches weigh more than description matches
+    private static final String RANK = "bm25(item_search, 4.0, 1.0)";
+    
+    private static final String SEARCH_SQL =
+            "SELECT i.id, i.todo_list_id, l.name, i.status, " +
+            "highlight(item_search, 0, char(1), char(2)), " +
+            "snippet(item_search, 1, char(1), char(2), char(3), 16), " +
+            "i.description IS NOT NULL, " + RANK + " " +
+            "FROM item_search " +
+            "JOIN todo_items i ON i.id = item_search.rowid " +
+            "JOIN todo_lists l ON l.id = i.todo_list_id " +
+            "WHERE item_search MATCH ? AND l.user_id = ?";
+    
+    private static final Pattern TERM = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 10;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ItemListRepository itemListRepository;
+    
+    @Autowired
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Autowired
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
+    @Value("${app.search.maxResults:50}")
+    private int maxResults;
+    
+    @Value("${app.typeahead.maxResults:50}")
+    private int maxTypeaheadResults;
+    
+    /**
+     * Search the current user's items, in one list when listId is given or across all of them
+     */
+    public List<ItemSearchResult> search(String query, Long listId, int limit) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        String match = toMatchQuery(query);
+        if (listId != null) {
+            itemListRepository.findByIdAndUserId(listId, userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Todo list not found"));
+        }
+        
+        int boundedLimit = Math.max(1, Math.min(limit, maxResults));
+        List<Object> parameters = new ArrayList<>(List.of(match, userId));
+        StringBuilder sql = new StringBuilder(SEARCH_SQL);
+        if (listId != null) {
+            sql.append(" AND i.todo_list_id = ?");
+            parameters.add(listId);
+        }
+        sql.append(" ORDER BY ").append(RANK).append(" LIMIT ?");
+        parameters.add(boundedLimit);
+        
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new ItemSearchResult(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getString(3),
+                ItemStatus.valueOf(rs.getString(4)),
+                toHtml(rs.getString(5)),
+                rs.getBoolean(7) ? toHtml(rs.getString(6)) : null,
+                -rs.getDouble(8)), parameters.toArray());
+    }
+    
+    /**
+     * Name suggestions as the user types, answered from the in-memory typeahead index.
+     * Each word of the query matches the start of a word of the name; an empty query lists
+     * the first items by name.
+     */
+    public List<ItemTypeaheadResult> typeahead(String query, Long listId, int limit) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (listId != null && !listOwnershipCache.isOwner(listId, userId)) {
+            throw new ResourceNotFoundException("Todo list not found");
+        }
+        return itemTypeaheadIndex.search(userId, listId, query, Math.max(1, Math.min(limit, maxTypeaheadResults)));
+    }
+    
+    /**
+     * Turn user input into an FTS5 query: letters and digits only, each term quoted and
+     * matched as a prefix, so no input can reach the FTS5 query syntax
+     */
+    static String toMatchQuery(String query) {
+        List<String> terms = new ArrayList<>();
+        Matcher matcher = TERM.matcher(query != null ? query : "");
+        while (matcher.find() && terms.size() < MAX_TERMS) {
+            terms.add('"' + matcher.group() + "\"*");
+        }
+        if (terms.isEmpty()) {
+            throw new InvalidOperationException("Search query must contain a letter or digit.");
+        }
+        return String.join(" ", terms);
+    }
+    
+    /**
+     * Escape stored text for HTML, then turn the highlight markers into tags
+     */
+    static String toHtml(String marked) {
+        if (marked == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(marked, "UTF-8")
+                .replace("\u0001", "<mark>")
+                .replace("\u0002", "</mark>")
+                .replace("\u0003", "…");
+    }
+}
@@ -1,23 +1,39 @@
 package com.kerem.todoApp.service;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kerem.todoApp.config.AppConfig;
 import com.kerem.todoApp.dto.ItemCreateRequest;
 import com.kerem.todoApp.dto.ItemResponse;
+import com.kerem.todoApp.dto.ItemSliceResponse;
 import com.kerem.todoApp.dto.ItemUpdateRequest;
 import com.kerem.todoApp.exception.InvalidOperationException;
 import com.kerem.todoApp.exception.ResourceNotFoundException;
 import com.kerem.todoApp.mapper.ItemMapper;
 import com.kerem.todoApp.model.Item;
-import com.kerem.todoApp.model.ItemList;
 import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.DependencyEdge;
+import com.kerem.todoApp.repository.ItemCursor;
+import com.kerem.todoApp.repository.ItemFilter;
 import com.kerem.todoApp.repository.ItemListRepository;
 import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.repository.ItemRow;
+import com.kerem.todoApp.repository.VersionedItemRow;
 import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.util.FieldSet;
+import com.kerem.todoApp.service.ListSummaryService.ItemSnapshot;
 
 @Service
 public class ItemService {
@@ -34,47 +50,173 @@ public class ItemService {
     @Autowired
     private AppConfig appConfig;
     
+    @Autowired
+    private ItemListVersions itemListVersions;
+    
+    @Autowired
+    private ListSummaryService listSummaryService;
+    
+    @Autowired
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Autowired
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
+    @Value("${app.itemCountCacheSize:10000}")
+    private int itemCountCacheSize;
+    
+    // Filtered item counts, valid while the list version they were computed at is current
+    private final Map<CountKey, CachedCount> itemCounts = new ConcurrentHashMap<>();
+    
     /**
-     * Get all items for a list with optional filtering, sorting, and pagination
+     * Get all items for a list with optional filtering, sorting, and pagination.
+     * Only the selected fields are filled in; the rest are not loaded.
      */
-    public Page<ItemResponse> getItemsForList(Long listId, ItemStatus status, String name, 
-                                               Pageable pageable) {
-        validateAndGetList(listId);
-        String trimmedName = (name != null && !name.trim().isEmpty()) ? name.trim() : null;
+    @Transactional(readOnly = true)
+    public Page<ItemResponse> getItemsForList(Long listId, ItemStatus status, String name, Boolean expired,
+                                               Pageable pageable, FieldSet fields) {
+        validateOwnership(listId);
+        ItemFilter filter = new ItemFilter(listId, status, trimName(name), expired);
         
-        Page<Item> items = itemRepository.findByListIdWithFilters(listId, status, trimmedName, pageable);
-        return items.map(itemMapper::toResponse);  // Convert to DTO
+        Page<ItemRow> items = itemRepository.findByFilter(filter, pageable, fields.includes("description"));
+        return new PageImpl<>(toResponses(items.getContent(), listId, fields), items.getPageable(),
+                items.getTotalElements());
     }
     
     /**
-     * Get a single item by ID
+     * Get one slice of a list's items by keyset. The first slice starts from an empty cursor;
+     * later slices take the sort from their cursor, so a deep slice costs the same as the first.
+     * The list version is the one the caller read for its ETag; the count is cached at it.
      */
-    public ItemResponse getItemById(Long listId, Long itemId) {
-        // Return ItemResponse DTO
-        Item item = validateAndGetItem(listId, itemId);
-        return itemMapper.toResponse(item);
+    @Transactional(readOnly = true)
+    public ItemSliceResponse<ItemResponse> getItemSliceForList(Long listId, long version, ItemStatus status, String name,
+                                                 Boolean expired, String sortField, boolean descending,
+                                                 String cursor, int size, FieldSet fields) {
+        validateOwnership(listId);
+        ItemFilter filter = new ItemFilter(listId, status, trimName(name), expired);
+        
+        ItemCursor after = (cursor != null && !cursor.isBlank()) ? ItemCursor.decode(cursor) : null;
+        if (after != null) {
+            sortField = after.sortField();
+            descending = after.descending();
+        }
+        
+        // Fetch one extra row to learn whether another slice follows
+        List<ItemRow> items = itemRepository.findPageAfter(filter, sortField, descending, after, size + 1,
+                fields.includes("description"));
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items = items.subList(0, size);
+        }
+        String nextCursor = hasNext
+                ? ItemCursor.after(items.get(items.size() - 1), sortField, descending).encode()
+                : null;
+        
+        return new ItemSliceResponse<>(
+                toResponses(items, listId, fields),
+                hasNext,
+                nextCursor,
+                approximateItemCount(filter, version));
+    }
+    
+    /**
+     * Map rows read for display. All of their dependencies are loaded with one query, and the
+     * list id is the one already validated, so the query count does not grow with the page.
+     * Dependencies are not queried at all unless a selected field needs them.
+     */
+    private List<ItemResponse> toResponses(List<ItemRow> rows, Long listId, FieldSet fields) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        if (!fields.includes("dependencies") && !fields.includes("canBeCompleted")) {
+            return rows.stream()
+                    .map(row -> {
+                        ItemResponse response = itemMapper.toResponseWithoutDependencies(row);
+                        response.setListId(listId);
+                        return response;
+                    })
+                    .toList();
+        }
+        Map<Long, List<DependencyEdge>> edges = itemRepository.findDependencyEdges(
+                rows.stream().map(ItemRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(DependencyEdge::itemId));
+        return rows.stream()
+                .map(row -> itemMapper.toResponse(row, listId, edges.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+    
+    /**
+     * Count of items matching the filters, computed at most once per list version.
+     * Expired counts also change with the date, so the date is part of their key.
+     */
+    private long approximateItemCount(ItemFilter filter, long version) {
+        CountKey key = new CountKey(filter, filter.expired() != null ? LocalDate.now() : null);
+        CachedCount cached = itemCounts.get(key);
+        if (cached != null && cached.version() == version) {
+            return cached.count();
+        }
+        
+        long count = itemRepository.countByFilter(filter);
+        if (itemCounts.size() >= itemCountCacheSize) {
+            itemCounts.clear();
+        }
+        itemCounts.put(key, new CachedCount(version, count));
+        return count;
+    }
+    
+    /**
+     * Version of a list the current user owns, looked up without reading any item
+     */
+    public long getListVersion(Long listId) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return itemListRepository.findVersionByIdAndUserId(listId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Todo list not found"));
+    }
+    
+    /**
+     * Get a single item of a list the user owns, with the list version for its ETag, in one
+     * query. A missing item and one in another user's list are the same 404.
+     */
+    @Transactional(readOnly = true)
+    public VersionedItemRow getItemRow(Long listId, Long itemId) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return itemRepository.findOwnedItemRow(itemId, listId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
+    }
+    
+    /**
+     * Response for an item read by getItemRow; its dependencies are queried only when a
+     * selected field needs them
+     */
+    @Transactional(readOnly = true)
+    public ItemResponse toResponse(Long listId, ItemRow row, FieldSet fields) {
+        return toResponses(List.of(row), listId, fields).get(0);
     }
     
     /**
      * Create a new item
      */
+    @Transactional
     public ItemResponse createItem(Long listId, ItemCreateRequest request) {
-        ItemList list = validateAndGetList(listId);
+        validateOwnership(listId);
         
         Item item = itemMapper.toEntity(request);
-        item.setList(list);
+        // A reference is enough to set the foreign key; the list itself is not read
+        item.setList(itemListRepository.getReferenceById(listId));
         
         Item saved = itemRepository.save(item);
+        itemListVersions.bump(listId);
+        listSummaryService.itemChanged(listId, null, ItemSnapshot.of(saved));
+        itemTypeaheadIndex.itemSaved(SecurityUtils.getCurrentUserId(), saved);
         return itemMapper.toResponse(saved);
     }
     
     /**
      * Update an existing item
      */
+    @Transactional
     public ItemResponse updateItem(Long listId, Long itemId, ItemUpdateRequest request) {
-        validateAndGetList(listId);
-        Item item = itemRepository.findByIdAndListId(itemId, listId)
-                .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
+        Item item = validateAndGetItem(listId, itemId);
         
         // Rule 1: Cannot mark as COMPLETED if this item's dependencies are not complete
         if (ItemStatus.COMPLETED.equals(request.getStatus()) && !item.canBeCompleted()) {
@@ -91,14 +233,19 @@ public class ItemService {
             }
         }
         
+        ItemSnapshot before = ItemSnapshot.of(item);
         itemMapper.updateEntity(request, item);  // MapStruct updates the entity
         Item saved = itemRepository.save(item);
+        itemListVersions.bump(listId);
+        listSummaryService.itemChanged(listId, before, ItemSnapshot.of(saved));
+        itemTypeaheadIndex.itemSaved(SecurityUtils.getCurrentUserId(), saved);
         return itemMapper.toResponse(saved);
     }
     
     /**
      * Mark an item as complete
      */
+    @Transactional
     public ItemResponse markAsComplete(Long listId, Long itemId) {
         Item item = validateAndGetItem(listId, itemId);
         
@@ -106,22 +253,29 @@ public class ItemService {
             throw new InvalidOperationException("Cannot complete: Dependencies not satisfied.");
         }
         
+        ItemSnapshot before = ItemSnapshot.of(item);
         item.setStatus(ItemStatus.COMPLETED);
         Item saved = itemRepository.save(item);
+        itemListVersions.bump(listId);
+        listSummaryService.itemChanged(listId, before, ItemSnapshot.of(saved));
+        itemTypeaheadIndex.itemSaved(SecurityUtils.getCurrentUserId(), saved);
         return itemMapper.toResponse(saved);
     }
     
     /**
      * Add a dependency to an item
      */
+    @Transactional
     public void addDependency(Long listId, Long itemId, Long dependencyId) {
-        validateAndGetList(listId);
-        
-        Item item = itemRepository.findByIdAndListId(itemId, listId)
-                .orElseThrow(() -> new ResourceNotFoundException("Item not found."));
-        
-        Item dependency = itemRepository.findByIdAndListId(dependencyId, listId)
-                .orElseThrow(() -> new ResourceNotFoundException("Dependency item not found."));
+        Map<Long, Item> items = validateAndGetItems(listId, itemId, dependencyId);
+        Item item = items.get(itemId);
+        if (item == null) {
+            throw new ResourceNotFoundException("Item not found.");
+        }
+        Item dependency = items.get(dependencyId);
+        if (dependency == null) {
+            throw new ResourceNotFoundException("Dependency item not found.");
+        }
         
         if (itemId.equals(dependencyId)) {
             throw new InvalidOperationException("Item cannot depend on itself.");
@@ -134,27 +288,33 @@ public class ItemService {
         
         item.getDependencies().add(dependency);
         itemRepository.save(item);
+        itemListVersions.bump(listId);
     }
     
     /**
      * Remove a dependency from an item
      */
+    @Transactional
     public void removeDependency(Long listId, Long itemId, Long dependencyId) {
-        validateAndGetList(listId);
-        
-        Item item = itemRepository.findByIdAndListId(itemId, listId)
-                .orElseThrow(() -> new ResourceNotFoundException("Item not found."));
-        
-        Item dependency = itemRepository.findByIdAndListId(dependencyId, listId)
-                .orElseThrow(() -> new ResourceNotFoundException("Dependency item not found."));
+        Map<Long, Item> items = validateAndGetItems(listId, itemId, dependencyId);
+        Item item = items.get(itemId);
+        if (item == null) {
+            throw new ResourceNotFoundException("Item not found.");
+        }
+        Item dependency = items.get(dependencyId);
+        if (dependency == null) {
+            throw new ResourceNotFoundException("Dependency item not found.");
+        }
         
         item.getDependencies().remove(dependency);
         itemRepository.save(item);
+        itemListVersions.bump(listId);
     }
     
     /**
      * Delete an item
      */
+    @Transactional
     public void deleteItem(Long listId, Long itemId) {
         Item item = validateAndGetItem(listId, itemId);
         
@@ -165,6 +325,9 @@ public class ItemService {
         }
         
         itemRepository.delete(item);
+        itemListVersions.bump(listId);
+        listSummaryService.itemChanged(listId, ItemSnapshot.of(item), null);
+        itemTypeaheadIndex.itemDeleted(SecurityUtils.getCurrentUserId(), itemId);
     }
     
     /**
@@ -197,20 +360,42 @@ public class ItemService {
     }
     
     /**
-     * Validate user owns the list and return it
+     * Validate user owns the list, without a query when its owner is cached
      */
-    private com.kerem.todoApp.model.ItemList validateAndGetList(Long listId) {
+    private void validateOwnership(Long listId) {
         Long userId = SecurityUtils.getCurrentUserId();
-        return itemListRepository.findByIdAndUserId(listId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo list not found"));
+        if (!listOwnershipCache.isOwner(listId, userId)) {
+            throw new ResourceNotFoundException("Todo list not found");
+        }
     }
     
     /**
-     * Validate user owns the list and return the item
+     * Return an item of a list the user owns, checked in the same query. A missing item
+     * and one in another user's list are the same 404.
      */
     private Item validateAndGetItem(Long listId, Long itemId) {
-        validateAndGetList(listId);
-        return itemRepository.findByIdAndListId(itemId, listId)
+        Long userId = SecurityUtils.getCurrentUserId();
+        return itemRepository.findOwnedItem(itemId, listId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Item not found"));
     }
+    
+    /**
+     * Return the given items of a list the user owns by id, all read with one query.
+     * Ids that are missing or not the user's are absent from the map.
+     */
+    private Map<Long, Item> validateAndGetItems(Long listId, Long... itemIds) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return itemRepository.findOwnedItems(List.of(itemIds), listId, userId).stream()
+                .collect(Collectors.toMap(Item::getId, item -> item));
+    }
+    
+    private static String trimName(String name) {
+        return (name != null && !name.trim().isEmpty()) ? name.trim() : null;
+    }
+    
+    private record CountKey(ItemFilter filter, LocalDate day) {
+    }
+    
+    private record CachedCount(long version, long count) {
+    }
 }
@@ -0,0 +1,46 @@
+package com.kerem.todoApp.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.util.SortKeys;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Fills name_sort_key for items written before the column existed. Runs once at startup,
+ * before requests are served; later writes set the key through the entity.
+ */
+@Component
+public class ItemSortKeyBackfill {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @PostConstruct
+    public void backfill() {
+        long lastId = 0;
+        int filled = 0;
+        while (true) {
+            // Walks forward by id, so a row whose key stays null cannot stall the loop
+            List<Object[]> batch = jdbcTemplate.query(
+                    "SELECT id, name FROM todo_items WHERE id > ? AND name_sort_key IS NULL ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[] {SortKeys.forName(rs.getString(2)), rs.getLong(1)},
+                    lastId, BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE todo_items SET name_sort_key = ? WHERE id = ?", batch);
+            lastId = (Long) batch.get(batch.size() - 1)[1];
+            filled += batch.size();
+        }
+        if (filled > 0) {
+            System.out.println("Filled name sort keys of " + filled + " items");
+        }
+    }
+}
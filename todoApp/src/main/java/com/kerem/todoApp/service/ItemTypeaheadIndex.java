@@ -0,0 +1,412 @@
+package com.kerem.todoApp.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kerem.todoApp.dto.ItemTypeaheadResult;
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.ItemNameRow;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.util.SortKeys;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory word-prefix index of item names, one per user. A user's index is built from
+ * one query on their first lookup and then kept current by item writes once they commit.
+ * Indexes are dropped least recently used first when their estimated size exceeds the budget.
+ */
+@Component
+public class ItemTypeaheadIndex {
+    
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MAX_TERMS = 10;
+    
+    @Autowired
+    private ItemRepository itemRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.typeahead.maxBytes:33554432}")
+    private long maxBytes;
+    
+    // Access-ordered, so iteration starts at the least recently used index
+    private final LinkedHashMap<Long, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    
+    // Builds reading from the database; a write committed meanwhile keeps the result out of the cache
+    private final List<Build> builds = new ArrayList<>();
+    
+    private long totalBytes;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    @PostConstruct
+    public void init() {
+        Gauge.builder("typeahead.index.users", this, ItemTypeaheadIndex::size)
+                .description("Users whose typeahead index is in memory")
+                .register(meterRegistry);
+        Gauge.builder("typeahead.index.bytes", this, ItemTypeaheadIndex::bytes)
+                .description("Estimated size of all typeahead indexes")
+                .register(meterRegistry);
+        Gauge.builder("typeahead.index.hit.ratio", this, ItemTypeaheadIndex::hitRatio)
+                .description("Share of typeahead lookups answered by an index already in memory")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Up to limit of the user's items whose name has a word starting with each word of the
+     * query, in one list when listId is given. Names starting with the whole query come
+     * first, then names in sort order. An empty query matches every item.
+     */
+    public List<ItemTypeaheadResult> search(Long userId, Long listId, String query, int limit) {
+        List<String> terms = terms(query);
+        String prefix = SortKeys.fold(query == null ? "" : query).trim();
+        UserIndex index = indexFor(userId);
+        synchronized (index) {
+            return index.search(listId, terms, prefix, limit);
+        }
+    }
+    
+    /**
+     * Index a created or updated item once the transaction commits
+     */
+    public void itemSaved(Long userId, Item item) {
+        Entry entry = Entry.of(new ItemNameRow(item.getId(), item.getList().getId(), item.getName(), item.getStatus()));
+        afterCommit(() -> apply(userId, index -> index.put(entry)));
+    }
+    
+    /**
+     * Index items created in bulk once the transaction commits
+     */
+    public void itemsSaved(Long userId, List<ItemNameRow> rows) {
+        List<Entry> entries = rows.stream().map(Entry::of).toList();
+        afterCommit(() -> apply(userId, index -> entries.forEach(index::put)));
+    }
+    
+    /**
+     * Record a status change made without a user at hand, such as expiry by the scheduler.
+     * Looks in every index, since the owner is not known.
+     */
+    public void itemStatusChanged(Long itemId, ItemStatus status) {
+        afterCommit(() -> {
+            synchronized (this) {
+                builds.forEach(build -> build.stale = true);
+                for (UserIndex index : indexes.values()) {
+                    synchronized (index) {
+                        index.setStatus(itemId, status);
+                    }
+                }
+            }
+        });
+    }
+    
+    /**
+     * Drop a deleted item once the transaction commits
+     */
+    public void itemDeleted(Long userId, Long itemId) {
+        afterCommit(() -> apply(userId, index -> index.remove(itemId)));
+    }
+    
+    /**
+     * Drop every item of a deleted list once the transaction commits
+     */
+    public void listDeleted(Long userId, Long listId) {
+        afterCommit(() -> apply(userId, index -> index.removeList(listId)));
+    }
+    
+    /**
+     * Drop a deleted user's index once the transaction commits
+     */
+    public void userDeleted(Long userId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                markBuildsStale(userId);
+                UserIndex index = indexes.remove(userId);
+                if (index != null) {
+                    totalBytes -= index.bytes;
+                }
+            }
+        });
+    }
+    
+    public synchronized int size() {
+        return indexes.size();
+    }
+    
+    public synchronized long bytes() {
+        return totalBytes;
+    }
+    
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+    
+    private UserIndex indexFor(Long userId) {
+        Build build;
+        synchronized (this) {
+            UserIndex index = indexes.get(userId);
+            if (index != null) {
+                hits.increment();
+                return index;
+            }
+            build = new Build(userId);
+            builds.add(build);
+        }
+        misses.increment();
+        
+        UserIndex index = new UserIndex();
+        try {
+            for (ItemNameRow row : itemRepository.findNameRowsByUserId(userId)) {
+                index.put(Entry.of(row));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                builds.remove(build);
+            }
+            throw e;
+        }
+        
+        synchronized (this) {
+            builds.remove(build);
+            // A stale build still answers this lookup; the next one builds again
+            if (!build.stale && !indexes.containsKey(userId)) {
+                indexes.put(userId, index);
+                totalBytes += index.bytes;
+                evict(userId);
+            }
+        }
+        return index;
+    }
+    
+    private synchronized void apply(Long userId, Consumer<UserIndex> change) {
+        markBuildsStale(userId);
+        UserIndex index = indexes.get(userId);
+        if (index == null) {
+            return;
+        }
+        synchronized (index) {
+            long before = index.bytes;
+            change.accept(index);
+            totalBytes += index.bytes - before;
+        }
+        evict(userId);
+    }
+    
+    /**
+     * Drop the least recently used indexes until the budget holds, keeping the one just used
+     */
+    private void evict(Long keep) {
+        Iterator<Map.Entry<Long, UserIndex>> iterator = indexes.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<Long, UserIndex> eldest = iterator.next();
+            if (!eldest.getKey().equals(keep)) {
+                totalBytes -= eldest.getValue().bytes;
+                iterator.remove();
+            }
+        }
+    }
+    
+    private void markBuildsStale(Long userId) {
+        for (Build build : builds) {
+            if (build.userId.equals(userId)) {
+                build.stale = true;
+            }
+        }
+    }
+    
+    private static List<String> terms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            Matcher matcher = WORD.matcher(SortKeys.fold(query));
+            while (matcher.find() && terms.size() < MAX_TERMS) {
+                terms.add(matcher.group());
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private static final class Build {
+        private final Long userId;
+        private boolean stale;
+        
+        private Build(Long userId) {
+            this.userId = userId;
+        }
+    }
+    
+    /**
+     * One indexed item. The folded name and sort key are kept so lookups do not recompute them.
+     */
+    private record Entry(Long id, Long listId, String name, ItemStatus status, String folded, String sortKey,
+                         Set<String> words) {
+        
+        // Rough heap cost: object headers, references, and two bytes per char of each string
+        private static final int ENTRY_OVERHEAD = 160;
+        private static final int WORD_OVERHEAD = 96;
+        
+        static Entry of(ItemNameRow row) {
+            String folded = SortKeys.fold(row.name());
+            Set<String> words = new HashSet<>();
+            Matcher matcher = WORD.matcher(folded);
+            while (matcher.find()) {
+                words.add(matcher.group());
+            }
+            return new Entry(row.id(), row.listId(), row.name(), row.status(), folded, SortKeys.forName(row.name()),
+                    words);
+        }
+        
+        long bytes() {
+            long bytes = ENTRY_OVERHEAD + 2L * (name.length() + folded.length() + sortKey.length());
+            for (String word : words) {
+                bytes += WORD_OVERHEAD + 2L * word.length();
+            }
+            return bytes;
+        }
+        
+        boolean matches(List<String> terms) {
+            for (String term : terms) {
+                boolean found = false;
+                for (String word : words) {
+                    if (word.startsWith(term)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        ItemTypeaheadResult toResult() {
+            return new ItemTypeaheadResult(id, listId, name, status);
+        }
+    }
+    
+    /**
+     * The items of one user, by id and by each word of their names. Guarded by its own lock.
+     */
+    private static final class UserIndex {
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final TreeMap<String, Set<Long>> words = new TreeMap<>();
+        private long bytes;
+        
+        void put(Entry entry) {
+            remove(entry.id());
+            entries.put(entry.id(), entry);
+            for (String word : entry.words()) {
+                words.computeIfAbsent(word, key -> new HashSet<>()).add(entry.id());
+            }
+            bytes += entry.bytes();
+        }
+        
+        void remove(Long id) {
+            Entry entry = entries.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (String word : entry.words()) {
+                Set<Long> ids = words.get(word);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    words.remove(word);
+                }
+            }
+            bytes -= entry.bytes();
+        }
+        
+        void setStatus(Long id, ItemStatus status) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                entries.put(id, new Entry(entry.id(), entry.listId(), entry.name(), status, entry.folded(),
+                        entry.sortKey(), entry.words()));
+            }
+        }
+        
+        void removeList(Long listId) {
+            List<Long> ids = entries.values().stream()
+                    .filter(entry -> entry.listId().equals(listId))
+                    .map(Entry::id)
+                    .toList();
+            ids.forEach(this::remove);
+        }
+        
+        List<ItemTypeaheadResult> search(Long listId, List<String> terms, String prefix, int limit) {
+            // Best match first: names starting with the query, then by sort key and id
+            Comparator<Entry> rank = Comparator
+                    .comparing((Entry entry) -> !entry.folded().startsWith(prefix))
+                    .thenComparing(Entry::sortKey)
+                    .thenComparing(Entry::id);
+            // Holds the best limit entries seen so far, worst on top
+            PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, rank.reversed());
+            
+            for (Entry entry : candidates(terms)) {
+                if ((listId == null || listId.equals(entry.listId())) && entry.matches(terms)) {
+                    best.add(entry);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+            
+            List<Entry> ranked = new ArrayList<>(best);
+            ranked.sort(rank);
+            return ranked.stream().map(Entry::toResult).toList();
+        }
+        
+        /**
+         * Items with a word starting with the longest term, which is usually the rarest
+         */
+        private Iterable<Entry> candidates(List<String> terms) {
+            if (terms.isEmpty()) {
+                return entries.values();
+            }
+            String longest = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+            Set<Long> ids = new HashSet<>();
+            for (Set<Long> wordIds : words.subMap(longest, true, longest + Character.MAX_VALUE, false).values()) {
+                ids.addAll(wordIds);
+            }
+            return ids.stream().map(entries::get).toList();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.kerem.todoApp.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kerem.todoApp.repository.ItemListRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bounded map of list id to owner id, so item operations can check ownership without
+ * a query. Entries are added on the first check of a list and when a list is created,
+ * and removed when the list or its owner is deleted.
+ */
+@Component
+public class ListOwnershipCache {
+    
+    @Autowired
+    private ItemListRepository itemListRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.listOwnershipCache.maxSize:10000}")
+    private int maxSize;
+    
+    private final Map<Long, Long> owners = new ConcurrentHashMap<>();
+    
+    // Moves on every removal; a lookup that overlapped one does not cache what it read
+    private long generation;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    @PostConstruct
+    public void init() {
+        Gauge.builder("list.ownership.cache.size", owners, Map::size)
+                .description("Lists whose owner is cached")
+                .register(meterRegistry);
+        Gauge.builder("list.ownership.cache.hit.ratio", this, ListOwnershipCache::hitRatio)
+                .description("Share of ownership checks answered without a query")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Check whether a user owns a list. A miss looks the owner up and caches it;
+     * lists that do not exist are never cached.
+     */
+    public boolean isOwner(Long listId, Long userId) {
+        Long owner = owners.get(listId);
+        if (owner != null) {
+            hits.increment();
+            return owner.equals(userId);
+        }
+        
+        misses.increment();
+        long startGeneration = currentGeneration();
+        owner = itemListRepository.findUserIdById(listId).orElse(null);
+        if (owner == null) {
+            return false;
+        }
+        cacheIfUnchanged(listId, owner, startGeneration);
+        return owner.equals(userId);
+    }
+    
+    /**
+     * Cache the owner of a new list once its transaction commits
+     */
+    public void listCreated(Long listId, Long ownerId) {
+        afterCommit(() -> put(listId, ownerId));
+    }
+    
+    /**
+     * Forget a deleted list. The entry is dropped now and again when the transaction ends,
+     * so a lookup that read the list before the delete committed cannot bring it back.
+     */
+    public void listDeleted(Long listId) {
+        remove(listId);
+        afterCompletion(() -> remove(listId));
+    }
+    
+    /**
+     * Forget every list of a deleted user
+     */
+    public void ownerDeleted(Long ownerId) {
+        removeOwner(ownerId);
+        afterCompletion(() -> removeOwner(ownerId));
+    }
+    
+    public int size() {
+        return owners.size();
+    }
+    
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+    
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+    
+    private synchronized void cacheIfUnchanged(Long listId, Long ownerId, long startGeneration) {
+        if (generation == startGeneration) {
+            put(listId, ownerId);
+        }
+    }
+    
+    private synchronized void put(Long listId, Long ownerId) {
+        if (owners.size() >= maxSize && !owners.containsKey(listId)) {
+            // Make room by dropping an arbitrary entry; it is reloaded on its next check
+            Iterator<Long> keys = owners.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        owners.put(listId, ownerId);
+    }
+    
+    private synchronized void remove(Long listId) {
+        generation++;
+        owners.remove(listId);
+    }
+    
+    private synchronized void removeOwner(Long ownerId) {
+        generation++;
+        owners.values().removeIf(ownerId::equals);
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,215 @@
+package com.kerem.todoApp.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kerem.todoApp.dto.ListSummaryResponse;
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemList;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.model.ListSummary;
+import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.repository.ItemStatusCount;
+import com.kerem.todoApp.repository.ListSummaryRepository;
+import com.kerem.todoApp.security.SecurityUtils;
+
+/**
+ * Dashboard counters per list, kept in list_summaries. Item writes apply their change
+ * as a delta in the writer's transaction, so a summary read costs one row per list
+ * whatever the number of items.
+ */
+@Service
+public class ListSummaryService {
+    
+    @Autowired
+    private ListSummaryRepository listSummaryRepository;
+    
+    @Autowired
+    private ItemListRepository itemListRepository;
+    
+    @Autowired
+    private ItemRepository itemRepository;
+    
+    /**
+     * Summaries of all of the current user's lists
+     */
+    @Transactional
+    public List<ListSummaryResponse> getSummaries() {
+        Long userId = SecurityUtils.getCurrentUserId();
+        List<ItemList> lists = itemListRepository.findByUserIdOrderByIdAsc(userId);
+        if (lists.isEmpty()) {
+            return List.of();
+        }
+        
+        LocalDate today = LocalDate.now();
+        Map<Long, ListSummary> summaries = listSummaryRepository.findAllById(
+                lists.stream().map(ItemList::getId).toList()).stream()
+                .collect(Collectors.toMap(ListSummary::getListId, Function.identity()));
+        return lists.stream()
+                .map(list -> {
+                    ListSummary summary = summaries.get(list.getId());
+                    if (summary == null) {
+                        summary = build(list.getId(), today);
+                    } else {
+                        rollForward(summary, today);
+                    }
+                    return toResponse(list, summary);
+                })
+                .toList();
+    }
+    
+    /**
+     * Apply one item write to its list's summary. Runs in the writer's transaction, after
+     * the write; before is null for a new item and after is null for a deleted one.
+     */
+    public void itemChanged(Long listId, ItemSnapshot before, ItemSnapshot after) {
+        LocalDate today = LocalDate.now();
+        ListSummary summary = listSummaryRepository.findById(listId).orElse(null);
+        if (summary == null) {
+            // Summarized from the items, which already include this write
+            build(listId, today);
+            return;
+        }
+        
+        boolean deadlinesRecomputed = rollForward(summary, today);
+        boolean nextDeadlineRemoved = false;
+        if (before != null) {
+            nextDeadlineRemoved = apply(summary, before, -1, !deadlinesRecomputed);
+        }
+        if (after != null) {
+            apply(summary, after, 1, !deadlinesRecomputed);
+        }
+        if (nextDeadlineRemoved) {
+            summary.setNextDeadline(itemRepository.findNextDeadline(listId, today));
+        }
+    }
+    
+    /**
+     * Bring every summary last updated before today up to date
+     */
+    @Transactional
+    public int rollForwardAll() {
+        LocalDate today = LocalDate.now();
+        List<ListSummary> stale = listSummaryRepository.findByAsOfBefore(today);
+        stale.forEach(summary -> rollForward(summary, today));
+        return stale.size();
+    }
+    
+    /**
+     * Drop a list's summary, for a deleted list or one whose id SQLite reused
+     */
+    public void discard(Long listId) {
+        listSummaryRepository.deleteById(listId);
+    }
+    
+    /**
+     * Add (sign 1) or remove (sign -1) one item's contribution. Returns whether a removed
+     * item held the next deadline, which then has to be looked up again.
+     */
+    private boolean apply(ListSummary summary, ItemSnapshot item, int sign, boolean applyDeadlines) {
+        summary.addStatusCount(item.status(), sign);
+        
+        boolean open = !ItemStatus.COMPLETED.equals(item.status());
+        if (!open && item.completedOn() != null && summary.isInCompletionWindow(item.completedOn())) {
+            summary.addCompletionsOn(item.completedOn(), sign);
+        }
+        
+        if (!applyDeadlines || !open || item.deadline() == null) {
+            return false;
+        }
+        if (item.deadline().isBefore(summary.getAsOf())) {
+            summary.setOverdue(summary.getOverdue() + sign);
+            return false;
+        }
+        if (sign > 0) {
+            if (summary.getNextDeadline() == null || item.deadline().isBefore(summary.getNextDeadline())) {
+                summary.setNextDeadline(item.deadline());
+            }
+            return false;
+        }
+        return item.deadline().equals(summary.getNextDeadline());
+    }
+    
+    /**
+     * Move a summary to today: completion slots of the days in between are cleared, and the
+     * overdue count and next deadline are counted again only if a deadline was passed.
+     * Returns whether they were counted again.
+     */
+    private boolean rollForward(ListSummary summary, LocalDate today) {
+        LocalDate asOf = summary.getAsOf();
+        if (!asOf.isBefore(today)) {
+            return false;
+        }
+        
+        LocalDate day = asOf.plusDays(1);
+        for (int i = 0; i < ListSummary.COMPLETION_DAYS && !day.isAfter(today); i++, day = day.plusDays(1)) {
+            summary.setCompletionsOn(day, 0);
+        }
+        summary.setAsOf(today);
+        
+        if (summary.getNextDeadline() == null || !summary.getNextDeadline().isBefore(today)) {
+            return false;
+        }
+        summary.setOverdue((int) itemRepository.countOverdue(summary.getListId(), today));
+        summary.setNextDeadline(itemRepository.findNextDeadline(summary.getListId(), today));
+        return true;
+    }
+    
+    /**
+     * Summarize a list from its items, for lists that have no summary yet
+     */
+    private ListSummary build(Long listId, LocalDate today) {
+        ListSummary summary = new ListSummary(listId, today);
+        for (ItemStatusCount count : itemRepository.countByStatusForLists(List.of(listId))) {
+            summary.addStatusCount(count.status(), (int) count.count());
+        }
+        summary.setOverdue((int) itemRepository.countOverdue(listId, today));
+        summary.setNextDeadline(itemRepository.findNextDeadline(listId, today));
+        
+        LocalDateTime since = today.minusDays(ListSummary.COMPLETION_DAYS - 1).atStartOfDay();
+        for (LocalDateTime completedAt : itemRepository.findCompletionTimes(listId, since)) {
+            summary.addCompletionsOn(completedAt.toLocalDate(), 1);
+        }
+        return listSummaryRepository.save(summary);
+    }
+    
+    private static ListSummaryResponse toResponse(ItemList list, ListSummary summary) {
+        ListSummaryResponse response = new ListSummaryResponse();
+        response.setListId(list.getId());
+        response.setListName(list.getName());
+        Map<ItemStatus, Long> statusCounts = new EnumMap<>(ItemStatus.class);
+        for (ItemStatus status : ItemStatus.values()) {
+            statusCounts.put(status, (long) summary.getStatusCount(status));
+        }
+        response.setStatusCounts(statusCounts);
+        response.setOverdue(summary.getOverdue());
+        response.setNextDeadline(summary.getNextDeadline());
+        response.setCompletedLast7Days(summary.getRecentCompletions());
+        return response;
+    }
+    
+    /**
+     * The fields of an item a summary depends on, taken before or after a write
+     */
+    public record ItemSnapshot(ItemStatus status, LocalDate deadline, LocalDate completedOn) {
+        
+        public static ItemSnapshot of(Item item) {
+            LocalDate completedOn = item.getCompletedAt() != null ? item.getCompletedAt().toLocalDate() : null;
+            // completedAt is only set when the write is flushed
+            if (completedOn == null && ItemStatus.COMPLETED.equals(item.getStatus())) {
+                completedOn = LocalDate.now();
+            }
+            return new ItemSnapshot(item.getStatus(), item.getDeadline(), completedOn);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.kerem.todoApp.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kerem.todoApp.repository.UserRepository;
+import com.kerem.todoApp.util.BloomFilter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bloom filters over normalized usernames and emails. A definite miss skips the
+ * existence query; probable hits are confirmed against the database. The unique
+ * constraints on users still guard the insert itself.
+ */
+@Component
+public class UserExistenceFilter {
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${app.userFilter.expectedInsertions:100000}")
+    private long expectedInsertions;
+    
+    @Value("${app.userFilter.falsePositiveRate:0.01}")
+    private double falsePositiveRate;
+    
+    private volatile Filters current;
+    
+    // Filters being rebuilt; new users are added here too so none are missed during the scan
+    private volatile Filters pending;
+    
+    private final AtomicLong probableHits = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private volatile long lastRebuildMillis;
+    
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("users.existence.filter.false.positive.rate", this, UserExistenceFilter::observedFalsePositiveRate)
+                .description("Share of probable filter hits that the database did not confirm")
+                .register(meterRegistry);
+        Gauge.builder("users.existence.filter.expected.false.positive.rate", this, UserExistenceFilter::expectedFalsePositiveRate)
+                .description("False positive probability implied by the current filter fill")
+                .register(meterRegistry);
+        Gauge.builder("users.existence.filter.rebuild.time", this, UserExistenceFilter::getLastRebuildMillis)
+                .description("Duration of the last filter rebuild in milliseconds")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Check whether a username is taken, querying the database only on a probable hit
+     */
+    public boolean usernameExists(String username) {
+        Filters filters = current;
+        if (filters != null && !filters.usernames.mightContain(normalize(username))) {
+            return false;
+        }
+        return confirm(filters, userRepository.existsByUsername(username));
+    }
+    
+    /**
+     * Check whether an email is in use, querying the database only on a probable hit
+     */
+    public boolean emailExists(String email) {
+        Filters filters = current;
+        if (filters != null && !filters.emails.mightContain(normalize(email))) {
+            return false;
+        }
+        return confirm(filters, userRepository.existsByEmail(email));
+    }
+    
+    /**
+     * Record a username and email that have just been saved
+     */
+    public void add(String username, String email) {
+        // Read pending before current: a finished rebuild publishes current before clearing pending
+        Filters rebuilding = pending;
+        Filters filters = current;
+        if (rebuilding != null) {
+            rebuilding.add(username, email);
+        }
+        if (filters != null) {
+            filters.add(username, email);
+        }
+    }
+    
+    /**
+     * Rebuild both filters by streaming the users table, sized for its current row count
+     */
+    @Scheduled(fixedDelayString = "${app.userFilter.rebuildIntervalMs:3600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        
+        Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        long capacity = Math.max(expectedInsertions, 2 * (userCount != null ? userCount : 0));
+        Filters next = new Filters(capacity, falsePositiveRate);
+        pending = next;
+        
+        try {
+            jdbcTemplate.query("SELECT username, email FROM users",
+                    (RowCallbackHandler) rs -> next.add(rs.getString(1), rs.getString(2)));
+            current = next;
+            probableHits.set(0);
+            falsePositives.set(0);
+        } finally {
+            pending = null;
+        }
+        
+        lastRebuildMillis = System.currentTimeMillis() - start;
+        System.out.println("Rebuilt user existence filters for " + userCount + " users in " + lastRebuildMillis + " ms");
+    }
+    
+    public double observedFalsePositiveRate() {
+        long hits = probableHits.get();
+        return hits == 0 ? 0.0 : (double) falsePositives.get() / hits;
+    }
+    
+    public double expectedFalsePositiveRate() {
+        Filters filters = current;
+        if (filters == null) {
+            return 0.0;
+        }
+        return Math.max(filters.usernames.expectedFalsePositiveRate(), filters.emails.expectedFalsePositiveRate());
+    }
+    
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+    
+    private boolean confirm(Filters filters, boolean exists) {
+        if (filters != null) {
+            probableHits.incrementAndGet();
+            if (!exists) {
+                falsePositives.incrementAndGet();
+            }
+        }
+        return exists;
+    }
+    
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private static final class Filters {
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+        
+        private Filters(long capacity, double falsePositiveRate) {
+            this.usernames = BloomFilter.create(capacity, falsePositiveRate);
+            this.emails = BloomFilter.create(capacity, falsePositiveRate);
+        }
+        
+        private void add(String username, String email) {
+            usernames.put(normalize(username));
+            emails.put(normalize(email));
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.kerem.todoApp.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kerem.todoApp.dto.BulkProvisionResponse;
+import com.kerem.todoApp.dto.BulkProvisionRowResult;
+import com.kerem.todoApp.dto.BulkProvisionRowResult.Status;
+import com.kerem.todoApp.dto.SignupRequest;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.security.PasswordHashingExecutor;
+import com.kerem.todoApp.security.SecurityVersionRegistry;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Creates many users in one request: rows are validated up front, uniqueness is checked
+ * for the whole batch with a few IN queries, passwords are hashed in parallel on the
+ * hashing pool and rows are inserted with JDBC batches, one transaction per chunk.
+ */
+@Service
+public class UserProvisioningService {
+    
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, email, password, created_at, security_version) VALUES (?, ?, ?, ?, ?)";
+    
+    // Stays well below SQLite's bound parameter limit
+    private static final int IN_CLAUSE_LIMIT = 500;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private PasswordEncoder encoder;
+    
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+    
+    @Autowired
+    private UserExistenceFilter userExistenceFilter;
+    
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Value("${app.bulkProvisioning.maxRows:10000}")
+    private int maxRows;
+    
+    @Value("${app.bulkProvisioning.chunkSize:500}")
+    private int chunkSize;
+    
+    /**
+     * Provision the given users and report the outcome of every row
+     */
+    public BulkProvisionResponse provisionUsers(List<SignupRequest> requests) {
+        if (requests.size() > maxRows) {
+            throw new InvalidOperationException("At most " + maxRows + " users can be provisioned per request!");
+        }
+        long start = System.currentTimeMillis();
+        BulkProvisionRowResult[] results = new BulkProvisionRowResult[requests.size()];
+        
+        // Validate each row and reject names repeated within the batch
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> batchUsernames = new HashSet<>();
+        Set<String> batchEmails = new HashSet<>();
+        for (int row = 0; row < requests.size(); row++) {
+            SignupRequest request = requests.get(row);
+            String violation = firstViolation(request);
+            if (violation != null) {
+                results[row] = result(row, request, Status.INVALID, violation);
+            } else if (batchUsernames.contains(request.getUsername())) {
+                results[row] = result(row, request, Status.DUPLICATE, "Username appears more than once in the batch!");
+            } else if (batchEmails.contains(request.getEmail())) {
+                results[row] = result(row, request, Status.DUPLICATE, "Email appears more than once in the batch!");
+            } else {
+                batchUsernames.add(request.getUsername());
+                batchEmails.add(request.getEmail());
+                candidates.add(row);
+            }
+        }
+        
+        // Check the whole batch against existing users
+        Set<String> takenUsernames = findExisting("username", batchUsernames);
+        Set<String> takenEmails = findExisting("email", batchEmails);
+        List<Integer> toInsert = new ArrayList<>();
+        for (int row : candidates) {
+            SignupRequest request = requests.get(row);
+            if (takenUsernames.contains(request.getUsername())) {
+                results[row] = result(row, request, Status.ALREADY_EXISTS, "Username is already taken!");
+            } else if (takenEmails.contains(request.getEmail())) {
+                results[row] = result(row, request, Status.ALREADY_EXISTS, "Email is already in use!");
+            } else {
+                toInsert.add(row);
+            }
+        }
+        
+        List<String> encodedPasswords = passwordHashingExecutor.mapAll(toInsert,
+                row -> encoder.encode(requests.get(row).getPassword()));
+        
+        int securityVersion = (int) (System.currentTimeMillis() / 1000);
+        for (int from = 0; from < toInsert.size(); from += chunkSize) {
+            int to = Math.min(toInsert.size(), from + chunkSize);
+            List<PendingUser> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                int row = toInsert.get(i);
+                chunk.add(new PendingUser(row, requests.get(row), encodedPasswords.get(i)));
+            }
+            insertChunk(chunk, securityVersion, results);
+        }
+        
+        int created = 0;
+        for (BulkProvisionRowResult result : results) {
+            if (result.getStatus() == Status.CREATED) {
+                created++;
+            }
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        System.out.println("Provisioned " + created + " of " + requests.size() + " users in " + elapsed + " ms");
+        return new BulkProvisionResponse(created, requests.size() - created, elapsed, List.of(results));
+    }
+    
+    /**
+     * Read users from CSV with the columns username, email, password. A header row is
+     * optional; fields may be quoted, with "" for a literal quote.
+     */
+    public List<SignupRequest> parseCsv(Reader reader) throws IOException {
+        List<SignupRequest> requests = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        boolean first = true;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = splitCsvLine(line);
+            if (first && fields.size() > 0 && fields.get(0).trim().equalsIgnoreCase("username")) {
+                first = false;
+                continue;
+            }
+            first = false;
+            
+            SignupRequest request = new SignupRequest();
+            request.setUsername(fields.size() > 0 ? fields.get(0).trim() : null);
+            request.setEmail(fields.size() > 1 ? fields.get(1).trim() : null);
+            request.setPassword(fields.size() > 2 ? fields.get(2) : null);
+            requests.add(request);
+            if (requests.size() > maxRows) {
+                throw new InvalidOperationException("At most " + maxRows + " users can be provisioned per request!");
+            }
+        }
+        return requests;
+    }
+    
+    private void insertChunk(List<PendingUser> chunk, int securityVersion, BulkProvisionRowResult[] results) {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER_SQL, chunk,
+                    chunk.size(), (ps, user) -> bind(ps, user, createdAt, securityVersion)));
+            for (PendingUser user : chunk) {
+                results[user.row()] = result(user.row(), user.request(), Status.CREATED, null);
+            }
+        } catch (DataAccessException e) {
+            // Another request took a name since the check; insert one by one to find the row
+            for (PendingUser user : chunk) {
+                try {
+                    jdbcTemplate.update(INSERT_USER_SQL, ps -> bind(ps, user, createdAt, securityVersion));
+                    results[user.row()] = result(user.row(), user.request(), Status.CREATED, null);
+                } catch (DataAccessException rowException) {
+                    results[user.row()] = isUniqueViolation(rowException)
+                            ? result(user.row(), user.request(), Status.ALREADY_EXISTS, "Username or email is already in use!")
+                            : result(user.row(), user.request(), Status.FAILED, "User could not be created!");
+                }
+            }
+        }
+        
+        List<String> createdUsernames = new ArrayList<>();
+        for (PendingUser user : chunk) {
+            if (results[user.row()].getStatus() == Status.CREATED) {
+                userExistenceFilter.add(user.request().getUsername(), user.request().getEmail());
+                createdUsernames.add(user.request().getUsername());
+            }
+        }
+        registerSecurityVersions(createdUsernames);
+    }
+    
+    /**
+     * Record the new rows' security versions, since SQLite may reuse ids of deleted users
+     */
+    private void registerSecurityVersions(List<String> usernames) {
+        for (List<String> slice : slices(usernames)) {
+            jdbcTemplate.query("SELECT id, security_version FROM users WHERE username IN (" + placeholders(slice.size()) + ")",
+                    (RowCallbackHandler) rs -> securityVersionRegistry.update(rs.getLong(1), rs.getInt(2)),
+                    slice.toArray());
+        }
+    }
+    
+    private Set<String> findExisting(String column, Set<String> values) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> slice : slices(new ArrayList<>(values))) {
+            existing.addAll(jdbcTemplate.queryForList(
+                    "SELECT " + column + " FROM users WHERE " + column + " IN (" + placeholders(slice.size()) + ")",
+                    String.class, slice.toArray()));
+        }
+        return existing;
+    }
+    
+    private String firstViolation(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        // Report the same violation every time when a row breaks several constraints
+        return Collections.min(violations,
+                Comparator.comparing((ConstraintViolation<SignupRequest> v) -> v.getPropertyPath().toString()))
+                .getMessage();
+    }
+    
+    private static void bind(PreparedStatement ps, PendingUser user, Timestamp createdAt, int securityVersion)
+            throws SQLException {
+        ps.setString(1, user.request().getUsername());
+        ps.setString(2, user.request().getEmail());
+        ps.setString(3, user.encodedPassword());
+        ps.setTimestamp(4, createdAt);
+        ps.setInt(5, securityVersion);
+    }
+    
+    private static boolean isUniqueViolation(DataAccessException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            return true;
+        }
+        Throwable cause = e.getMostSpecificCause();
+        return cause.getMessage() != null && cause.getMessage().toUpperCase(Locale.ROOT).contains("UNIQUE");
+    }
+    
+    private static BulkProvisionRowResult result(int row, SignupRequest request, Status status, String message) {
+        return new BulkProvisionRowResult(row, request.getUsername(), status, message);
+    }
+    
+    private static List<List<String>> slices(List<String> values) {
+        List<List<String>> slices = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_LIMIT) {
+            slices.add(values.subList(from, Math.min(values.size(), from + IN_CLAUSE_LIMIT)));
+        }
+        return slices;
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+    
+    private record PendingUser(int row, SignupRequest request, String encodedPassword) {
+    }
+}
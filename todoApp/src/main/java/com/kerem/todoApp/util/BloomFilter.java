@@ -0,0 +1,126 @@
+package com.kerem.todoApp.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings and 128-bit values. Lookups hash the
+ * characters or bits directly, so checking a value does not allocate.
+ */
+public class BloomFilter {
+    
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+    
+    private BloomFilter(long numBits, int numHashes) {
+        this.bits = new AtomicLongArray((int) ((numBits + 63) / 64));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+    
+    /**
+     * Size a filter for the expected number of values and target false positive probability
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, m);
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+    
+    public void put(CharSequence value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < numHashes; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+    
+    public boolean mightContain(CharSequence value) {
+        long h1 = hash(value);
+        return probe(h1, mix(h1 ^ 0x9e3779b97f4a7c15L));
+    }
+    
+    /**
+     * Add a 128-bit value such as a UUID, given as its high and low halves
+     */
+    public void put(long high, long low) {
+        long h1 = mix(high ^ mix(low));
+        long h2 = mix(low ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < numHashes; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+    
+    public boolean mightContain(long high, long low) {
+        return probe(mix(high ^ mix(low)), mix(low ^ 0x9e3779b97f4a7c15L));
+    }
+    
+    /**
+     * False positive probability for the current fill ratio
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount() / numBits, numHashes);
+    }
+    
+    public long bitCount() {
+        long count = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            count += Long.bitCount(bits.get(i));
+        }
+        return count;
+    }
+    
+    public long bitSize() {
+        return numBits;
+    }
+    
+    private boolean probe(long h1, long h2) {
+        for (int i = 0; i < numHashes; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % numBits;
+    }
+    
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+    
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+    
+    // FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer
+    private static long hash(CharSequence value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+    
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
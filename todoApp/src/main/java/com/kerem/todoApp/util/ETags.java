@@ -0,0 +1,33 @@
+package com.kerem.todoApp.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Strong entity tags for responses derived from a versioned resource
+ */
+public final class ETags {
+    
+    private ETags() {
+    }
+    
+    /**
+     * Tag of the representation at a version, given everything else that shapes it
+     * (resource ids, query parameters, the date for date-relative fields)
+     */
+    public static String of(long version, Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            // The separator keeps ("ab", "c") apart from ("a", "bc")
+            key.append(part).append('\0');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + version + "-" + HexFormat.of().formatHex(hash, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.kerem.todoApp.util;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import com.kerem.todoApp.exception.InvalidOperationException;
+
+/**
+ * The properties a client asked for with a fields parameter. The id is always included.
+ * Services read it to skip loading what will not be returned, controllers to trim the body.
+ */
+public final class FieldSet {
+    
+    public static final FieldSet ALL = new FieldSet(null);
+    
+    // Sorted, so the same selection always renders the same ETag part; null means every field
+    private final Set<String> names;
+    
+    private FieldSet(Set<String> names) {
+        this.names = names;
+    }
+    
+    /**
+     * Parse a comma-separated field list; a missing or blank list selects every field
+     */
+    public static FieldSet parse(String fields, Collection<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new TreeSet<>();
+        names.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new InvalidOperationException("Unknown field: " + name);
+            }
+            names.add(name);
+        }
+        return new FieldSet(names);
+    }
+    
+    public boolean isAll() {
+        return names == null;
+    }
+    
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+    
+    /**
+     * The value itself when every field is selected, otherwise its selected properties
+     */
+    public <T> Object select(T value, Map<String, Function<T, Object>> accessors) {
+        return names == null ? value : project(value, accessors);
+    }
+    
+    /**
+     * The selected properties of a value, in the order of the accessor map
+     */
+    public <T> Map<String, Object> project(T value, Map<String, Function<T, Object>> accessors) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        accessors.forEach((name, accessor) -> {
+            if (includes(name)) {
+                projected.put(name, accessor.apply(value));
+            }
+        });
+        return projected;
+    }
+    
+    @Override
+    public String toString() {
+        return names == null ? "*" : String.join(",", names);
+    }
+}
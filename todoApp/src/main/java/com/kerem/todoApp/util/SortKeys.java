@@ -0,0 +1,60 @@
+package com.kerem.todoApp.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized keys stored next to a value so that a plain binary index orders rows the way
+ * people read them. Changing the rules means recomputing every stored key.
+ */
+public final class SortKeys {
+    
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    
+    private SortKeys() {
+    }
+    
+    /**
+     * Case-folded, accent-stripped name in which every run of digits is prefixed with its
+     * two-digit length, so "Task 2" sorts before "Task 10" and accented names sort with their plain forms
+     */
+    public static String forName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String folded = fold(name);
+        
+        StringBuilder key = new StringBuilder(folded.length() + 8);
+        int i = 0;
+        while (i < folded.length()) {
+            if (!isDigit(folded.charAt(i))) {
+                key.append(folded.charAt(i++));
+                continue;
+            }
+            int start = i;
+            while (i < folded.length() && isDigit(folded.charAt(i))) {
+                i++;
+            }
+            // Leading zeros do not change the number; keep one digit for zero itself
+            while (start < i - 1 && folded.charAt(start) == '0') {
+                start++;
+            }
+            // Runs beyond 99 digits only order among themselves by their digits
+            int length = Math.min(i - start, 99);
+            key.append((char) ('0' + length / 10)).append((char) ('0' + length % 10)).append(folded, start, i);
+        }
+        return key.toString();
+    }
+    
+    /**
+     * Lower-cased name with accents stripped, so accented and plain spellings compare equal
+     */
+    public static String fold(String name) {
+        return MARKS.matcher(Normalizer.normalize(name.toLowerCase(Locale.ROOT), Normalizer.Form.NFKD)).replaceAll("");
+    }
+    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
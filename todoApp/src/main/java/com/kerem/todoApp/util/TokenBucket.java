@@ -0,0 +1,46 @@
+package com.kerem.todoApp.util;
+
+/**
+ * Token bucket refilled continuously at a fixed rate
+ */
+public class TokenBucket {
+    
+    private final long capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+    
+    public TokenBucket(long capacity, long refillTokens, long refillPeriodMillis) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / (refillPeriodMillis * 1_000_000L);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+    
+    /**
+     * Take one token if available
+     * @return 0 if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    public synchronized long tryConsume() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+    
+    /**
+     * Whether the bucket has refilled completely, meaning it carries no state worth keeping
+     */
+    public synchronized boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+    
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
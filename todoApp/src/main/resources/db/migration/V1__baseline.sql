@@ -0,0 +1,37 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update). IF NOT EXISTS lets
+-- databases created that way adopt the migrations without losing data.
+
+CREATE TABLE IF NOT EXISTS users (
+    id integer,
+    created_at timestamp,
+    email varchar(50) not null unique,
+    password varchar(120) not null,
+    username varchar(20) not null unique,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS todo_lists (
+    id integer,
+    created_at timestamp,
+    name varchar(100) not null,
+    user_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS todo_items (
+    id integer,
+    completed_at timestamp,
+    created_at timestamp,
+    deadline timestamp,
+    description varchar(1000),
+    name varchar(200) not null,
+    status varchar(255) not null,
+    todo_list_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE IF NOT EXISTS todo_item_dependencies (
+    dependent_item_id bigint not null,
+    dependency_item_id bigint not null,
+    primary key (dependent_item_id, dependency_item_id)
+);
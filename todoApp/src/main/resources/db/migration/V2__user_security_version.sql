@@ -0,0 +1,2 @@
+-- Databases last started under ddl-auto=update may already have this column
+ALTER TABLE users ADD COLUMN security_version integer;
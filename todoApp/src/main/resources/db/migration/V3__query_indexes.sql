@@ -0,0 +1,25 @@
+-- Every SQLite index ends with the rowid, which is the id column of these tables, so
+-- (todo_list_id, x) also orders ties by id as the keyset queries require.
+
+-- Lists of a user (ItemListRepository.findByUserId)
+CREATE INDEX IF NOT EXISTS idx_todo_lists_user_id ON todo_lists (user_id);
+
+-- Status filter and status sort within a list; covers the filtered counts
+CREATE INDEX IF NOT EXISTS idx_todo_items_list_status ON todo_items (todo_list_id, status);
+
+-- Default sort within a list (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_todo_items_list_created_at ON todo_items (todo_list_id, created_at);
+
+-- Deadline sort within a list
+CREATE INDEX IF NOT EXISTS idx_todo_items_list_deadline ON todo_items (todo_list_id, deadline);
+
+-- Case-insensitive name sort within a list, matching ORDER BY lower(name)
+CREATE INDEX IF NOT EXISTS idx_todo_items_list_name ON todo_items (todo_list_id, lower(name));
+
+-- Items the scheduler may still expire (ItemRepository.OVERDUE_ITEMS_SQL)
+CREATE INDEX IF NOT EXISTS idx_todo_items_active_deadline ON todo_items (deadline)
+    WHERE deadline IS NOT NULL AND status NOT IN ('COMPLETED', 'EXPIRED');
+
+-- Reverse edge lookups (dependents of an item); the primary key serves the forward direction
+CREATE INDEX IF NOT EXISTS idx_todo_item_dependencies_dependency
+    ON todo_item_dependencies (dependency_item_id, dependent_item_id);
@@ -0,0 +1,26 @@
+-- Full-text index over item names and descriptions. The rows live in todo_items
+-- (external content), the triggers below keep the index in step with every write.
+CREATE VIRTUAL TABLE IF NOT EXISTS item_search USING fts5(
+    name,
+    description,
+    content = 'todo_items',
+    content_rowid = 'id',
+    prefix = '2 3',
+    tokenize = 'unicode61 remove_diacritics 2'
+);
+
+CREATE TRIGGER IF NOT EXISTS todo_items_search_insert AFTER INSERT ON todo_items BEGIN
+    INSERT INTO item_search (rowid, name, description) VALUES (new.id, new.name, new.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_items_search_delete AFTER DELETE ON todo_items BEGIN
+    INSERT INTO item_search (item_search, rowid, name, description) VALUES ('delete', old.id, old.name, old.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_items_search_update AFTER UPDATE OF name, description ON todo_items BEGIN
+    INSERT INTO item_search (item_search, rowid, name, description) VALUES ('delete', old.id, old.name, old.description);
+    INSERT INTO item_search (rowid, name, description) VALUES (new.id, new.name, new.description);
+END;
+
+-- Index the items that existed before this migration
+INSERT INTO item_search (item_search) VALUES ('rebuild');
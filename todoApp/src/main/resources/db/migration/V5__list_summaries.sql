@@ -0,0 +1,25 @@
+-- Per-list dashboard counters, kept up to date by ListSummaryService on every item write.
+-- overdue and next_deadline are relative to as_of, and completed_0..completed_6 hold the
+-- completions of the seven days up to as_of, one slot per day (epoch day mod 7). Rows
+-- are rolled forward to the current day by ItemScheduler or on first read, and a list
+-- without a row is summarized from its items once.
+CREATE TABLE IF NOT EXISTS list_summaries (
+    list_id integer,
+    as_of timestamp not null,
+    not_started integer not null default 0,
+    in_progress integer not null default 0,
+    completed integer not null default 0,
+    expired integer not null default 0,
+    overdue integer not null default 0,
+    next_deadline timestamp,
+    completed_0 integer not null default 0,
+    completed_1 integer not null default 0,
+    completed_2 integer not null default 0,
+    completed_3 integer not null default 0,
+    completed_4 integer not null default 0,
+    completed_5 integer not null default 0,
+    completed_6 integer not null default 0,
+    primary key (list_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_list_summaries_as_of ON list_summaries (as_of);
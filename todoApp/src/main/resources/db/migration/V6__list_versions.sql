@@ -0,0 +1,6 @@
+-- Version stamps for conditional GETs. ItemListVersions bumps them with
+-- max(version + 1, epoch millis), so a list id reused by SQLite starts above
+-- every version its deleted predecessor handed out.
+ALTER TABLE todo_lists ADD COLUMN version integer not null default 0;
+
+ALTER TABLE users ADD COLUMN lists_version integer not null default 0;
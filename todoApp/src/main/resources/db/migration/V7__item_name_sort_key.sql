@@ -0,0 +1,10 @@
+-- Normalized name for sorting (SortKeys.forName): case-folded, accents stripped and digit
+-- runs length-prefixed. The application writes it on every insert and update and fills
+-- rows from before this migration at startup (ItemSortKeyBackfill), so name-sorted pages
+-- and their keyset cursors are range scans of the index below.
+ALTER TABLE todo_items ADD COLUMN name_sort_key varchar(255);
+
+CREATE INDEX IF NOT EXISTS idx_todo_items_list_name_sort_key ON todo_items (todo_list_id, name_sort_key);
+
+-- Replaced by the index above; nothing orders by lower(name) any more
+DROP INDEX IF EXISTS idx_todo_items_list_name;
@@ -0,0 +1,3 @@
+-- Admin rights for the /api/admin endpoints. No endpoint writes this column;
+-- operators grant it directly, e.g. UPDATE users SET admin = 1 WHERE id = ?
+ALTER TABLE users ADD COLUMN admin integer not null default 0;
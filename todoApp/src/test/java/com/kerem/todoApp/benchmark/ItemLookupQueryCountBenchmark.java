@@ -0,0 +1,167 @@
+package com.kerem.todoApp.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.sqlite.SQLiteDataSource;
+
+import com.kerem.todoApp.config.SchemaMigrator;
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemList;
+import com.kerem.todoApp.model.User;
+import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.repository.ItemRepositoryCustomImpl;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Statements and latency of the authorization and lookup that item endpoints run before
+ * any write: a list ownership query followed by item queries, versus one ownership-scoped
+ * item query. The main method first prints the statement count per endpoint, then runs
+ * the benchmarks; run it after {@code ./mvnw test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemLookupQueryCountBenchmark {
+    
+    private Path directory;
+    private SessionFactory sessionFactory;
+    private ItemRepository itemRepository;
+    private ItemListRepository itemListRepository;
+    private Long userId;
+    private Long listId;
+    private Long itemId;
+    private Long dependencyId;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("item-lookup-benchmark");
+        String url = "jdbc:sqlite:" + directory.resolve("bench.db");
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl(url);
+        new SchemaMigrator(dataSource, "classpath*:db/migration").migrate();
+        
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(ItemList.class)
+                .addAnnotatedClass(Item.class)
+                .setProperty("hibernate.connection.url", url)
+                .setProperty("hibernate.connection.driver_class", "org.sqlite.JDBC")
+                .setProperty("hibernate.dialect", "org.hibernate.community.dialect.SQLiteDialect")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .setProperty("hibernate.generate_statistics", "true")
+                .buildSessionFactory();
+        
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        User user = new User("benchmarkuser", "benchmark@example.com", "password");
+        entityManager.persist(user);
+        ItemList list = new ItemList("Benchmark", user);
+        entityManager.persist(list);
+        Item item = new Item("Item", "Depends on another item", LocalDate.now().plusDays(7), list);
+        entityManager.persist(item);
+        Item dependency = new Item("Dependency", null, LocalDate.now().plusDays(3), list);
+        entityManager.persist(dependency);
+        entityManager.getTransaction().commit();
+        entityManager.close();
+        userId = user.getId();
+        listId = list.getId();
+        itemId = item.getId();
+        dependencyId = dependency.getId();
+        
+        // Repositories as Spring wires them: each call runs in a fresh persistence context
+        EntityManager shared = SharedEntityManagerCreator.createSharedEntityManager(sessionFactory);
+        ItemRepositoryCustomImpl custom = new ItemRepositoryCustomImpl();
+        ReflectionTestUtils.setField(custom, "entityManager", shared);
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(shared);
+        itemRepository = factory.getRepository(ItemRepository.class, RepositoryFragments.just(custom));
+        itemListRepository = factory.getRepository(ItemListRepository.class);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sessionFactory.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+    
+    // Get, update, complete and delete an item, as they looked the item up before
+    @Benchmark
+    public Item itemLookupSeparate() {
+        itemListRepository.findByIdAndUserId(listId, userId).orElseThrow();
+        return itemRepository.findByIdAndListId(itemId, listId).orElseThrow();
+    }
+    
+    @Benchmark
+    public Item itemLookupFused() {
+        return itemRepository.findOwnedItem(itemId, listId, userId).orElseThrow();
+    }
+    
+    // Add and remove a dependency, as they looked both items up before
+    @Benchmark
+    public Item dependencyLookupSeparate() {
+        itemListRepository.findByIdAndUserId(listId, userId).orElseThrow();
+        itemRepository.findByIdAndListId(itemId, listId).orElseThrow();
+        return itemRepository.findByIdAndListId(dependencyId, listId).orElseThrow();
+    }
+    
+    @Benchmark
+    public List<Item> dependencyLookupFused() {
+        return itemRepository.findOwnedItems(List.of(itemId, dependencyId), listId, userId);
+    }
+    
+    private long statements(Runnable lookup) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        lookup.run();
+        return statistics.getPrepareStatementCount();
+    }
+    
+    public static void main(String[] args) throws Exception {
+        ItemLookupQueryCountBenchmark benchmark = new ItemLookupQueryCountBenchmark();
+        benchmark.setUp();
+        try {
+            System.out.println("Statements per lookup, separate -> fused");
+            System.out.println("  get/update/complete/delete item: "
+                    + benchmark.statements(benchmark::itemLookupSeparate) + " -> "
+                    + benchmark.statements(benchmark::itemLookupFused));
+            System.out.println("  add/remove dependency: "
+                    + benchmark.statements(benchmark::dependencyLookupSeparate) + " -> "
+                    + benchmark.statements(benchmark::dependencyLookupFused));
+        } finally {
+            benchmark.tearDown();
+        }
+        new Runner(new OptionsBuilder().include(ItemLookupQueryCountBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,137 @@
+package com.kerem.todoApp.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.sqlite.SQLiteDataSource;
+
+import com.kerem.todoApp.config.SchemaMigrator;
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemList;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.model.User;
+import com.kerem.todoApp.repository.ItemFilter;
+import com.kerem.todoApp.repository.ItemRepositoryCustomImpl;
+import com.kerem.todoApp.repository.ItemRow;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Cost of reading one page of items as managed entities versus as ItemRow projections,
+ * each in a fresh persistence context like a request. Run the main method after
+ * {@code ./mvnw test-compile}; with {@code -prof gc}, compare gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemPageAllocationBenchmark {
+    
+    private static final String ENTITY_PAGE_JPQL =
+            "SELECT t FROM Item t WHERE t.list.id = :listId ORDER BY t.createdAt ASC, t.id ASC";
+    
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private Path directory;
+    private SessionFactory sessionFactory;
+    private ItemFilter filter;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("item-page-benchmark");
+        String url = "jdbc:sqlite:" + directory.resolve("bench.db");
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl(url);
+        new SchemaMigrator(dataSource, "classpath*:db/migration").migrate();
+        
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(ItemList.class)
+                .addAnnotatedClass(Item.class)
+                .setProperty("hibernate.connection.url", url)
+                .setProperty("hibernate.connection.driver_class", "org.sqlite.JDBC")
+                .setProperty("hibernate.dialect", "org.hibernate.community.dialect.SQLiteDialect")
+                .setProperty("hibernate.hbm2ddl.auto", "none")
+                .buildSessionFactory();
+        
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        User user = new User("benchmarkuser", "benchmark@example.com", "password");
+        entityManager.persist(user);
+        ItemList list = new ItemList("Benchmark", user);
+        entityManager.persist(list);
+        for (int i = 0; i < 500; i++) {
+            Item item = new Item("Item " + i, "Description of item " + i, LocalDate.now().plusDays(i % 30), list);
+            item.setStatus(ItemStatus.values()[i % ItemStatus.values().length]);
+            entityManager.persist(item);
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+        filter = new ItemFilter(list.getId(), null, null, null);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sessionFactory.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+    
+    @Benchmark
+    public List<ItemRow> entityPage() {
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(ENTITY_PAGE_JPQL, Item.class)
+                    .setParameter("listId", filter.listId())
+                    .setMaxResults(pageSize)
+                    .getResultList().stream()
+                    .map(ItemRow::of)
+                    .toList();
+        } finally {
+            entityManager.close();
+        }
+    }
+    
+    @Benchmark
+    public List<ItemRow> projectionPage() {
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        try {
+            ItemRepositoryCustomImpl repository = new ItemRepositoryCustomImpl();
+            ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+            return repository.findPageAfter(filter, "createdAt", false, null, pageSize, true);
+        } finally {
+            entityManager.close();
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ItemPageAllocationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
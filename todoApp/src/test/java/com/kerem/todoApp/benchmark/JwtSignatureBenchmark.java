@@ -0,0 +1,87 @@
+package com.kerem.todoApp.benchmark;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Sign and verify throughput per signature algorithm, with tokens shaped like the ones
+ * JwtUtils issues. Run the main method after {@code ./mvnw test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSignatureBenchmark {
+    
+    @Param({"HS256", "HS512", "ES256", "RS256"})
+    private String algorithm;
+    
+    private SignatureAlgorithm signatureAlgorithm;
+    private Key signingKey;
+    private JwtParser parser;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        Key verificationKey;
+        if (signatureAlgorithm.isHmac()) {
+            signingKey = Keys.secretKeyFor(signatureAlgorithm);
+            verificationKey = signingKey;
+        } else {
+            KeyPair keyPair = Keys.keyPairFor(signatureAlgorithm);
+            signingKey = keyPair.getPrivate();
+            verificationKey = keyPair.getPublic();
+        }
+        parser = Jwts.parserBuilder().setSigningKey(verificationKey).build();
+        token = sign();
+    }
+    
+    @Benchmark
+    public String sign() {
+        return Jwts.builder()
+                .setHeaderParam("kid", "bench")
+                .setId("6f1c2a0e-8a53-4d6b-9a5e-0f6f3b1f6d2c")
+                .setSubject("benchmarkuser")
+                .claim("userId", 42L)
+                .claim("email", "benchmark@example.com")
+                .claim("sv", 1)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 86400000L))
+                .signWith(signingKey, signatureAlgorithm)
+                .compact();
+    }
+    
+    @Benchmark
+    public Object verify() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtSignatureBenchmark.class.getSimpleName()).build()).run();
+    }
+}
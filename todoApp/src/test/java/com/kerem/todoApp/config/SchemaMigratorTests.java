@@ -0,0 +1,221 @@
+package com.kerem.todoApp.config;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.service.ItemExportService;
+
+public class SchemaMigratorTests {
+    
+    private static final String LOCATION = "classpath*:db/migration";
+    
+    @TempDir
+    Path tempDir;
+    
+    private SQLiteDataSource dataSource;
+    private SchemaMigrator migrator;
+    
+    @BeforeEach
+    void setUp() {
+        dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("test.db"));
+        migrator = new SchemaMigrator(dataSource, LOCATION);
+    }
+    
+    @Test
+    void testMigrate_AppliesEachScriptOnce() {
+        int scripts = migrator.loadScripts().size();
+        
+        assertEquals(scripts, migrator.migrate());
+        assertEquals(0, migrator.migrate());
+    }
+    
+    @Test
+    void testMigrate_AdoptsSchemaCreatedByHibernate() throws SQLException {
+        // Arrange: tables as ddl-auto=update left them, security_version included
+        execute("CREATE TABLE users (id integer, created_at timestamp, email varchar(50) not null unique, " +
+                "password varchar(120) not null, username varchar(20) not null unique, security_version integer, " +
+                "primary key (id))");
+        execute("INSERT INTO users (username, email, password, security_version) VALUES ('alice', 'a@b.c', 'x', 7)");
+        
+        // Act
+        migrator.migrate();
+        
+        // Assert
+        assertEquals(7, queryInt("SELECT security_version FROM users WHERE username = 'alice'"));
+        assertTrue(explain("SELECT * FROM todo_lists WHERE user_id = ?").contains("idx_todo_lists_user_id"));
+    }
+    
+    @Test
+    void testMigrate_ChangedScriptFails() throws SQLException {
+        migrator.migrate();
+        execute("UPDATE schema_version SET checksum = 'edited' WHERE version = 1");
+        
+        assertThrows(IllegalStateException.class, () -> migrator.migrate());
+    }
+    
+    @Test
+    void testSplitStatements() {
+        List<String> statements = SchemaMigrator.splitStatements(
+                "-- comment\nCREATE TABLE a (x integer);\n\nCREATE INDEX i ON a (x)\n    WHERE x > 0;\n");
+        
+        assertEquals(List.of("CREATE TABLE a (x integer)", "CREATE INDEX i ON a (x)\n    WHERE x > 0"), statements);
+    }
+    
+    @Test
+    void testSplitStatements_TriggerBody() {
+        List<String> statements = SchemaMigrator.splitStatements(
+                "CREATE TRIGGER t AFTER INSERT ON a BEGIN\n    INSERT INTO b VALUES (new.x);\n    DELETE FROM c;\nEND;\n" +
+                "DROP TABLE c;\n");
+        
+        assertEquals(2, statements.size());
+        assertTrue(statements.get(0).endsWith("DELETE FROM c;\nEND"));
+        assertEquals("DROP TABLE c", statements.get(1));
+    }
+    
+    // The plans below mirror the SQL Hibernate renders for the repository queries; a
+    // missing or unusable index shows up as a full SCAN or a TEMP B-TREE sort.
+    
+    @Test
+    void testQueryPlan_ItemsOfListBySort() throws SQLException {
+        migrator.migrate();
+        
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? ORDER BY t.created_at, t.id LIMIT ?",
+                "idx_todo_items_list_created_at");
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? " +
+                "AND (t.created_at < ? OR (t.created_at = ? AND t.id < ?)) ORDER BY t.created_at DESC, t.id DESC LIMIT ?",
+                "idx_todo_items_list_created_at");
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? ORDER BY t.name_sort_key, t.id LIMIT ?",
+                "idx_todo_items_list_name_sort_key");
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? AND (t.name_sort_key > ? " +
+                "OR (t.name_sort_key = ? AND t.id > ?)) ORDER BY t.name_sort_key, t.id LIMIT ?",
+                "idx_todo_items_list_name_sort_key");
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? ORDER BY t.deadline NULLS FIRST, t.id LIMIT ?",
+                "idx_todo_items_list_deadline");
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? ORDER BY t.status DESC, t.id DESC LIMIT ?",
+                "idx_todo_items_list_status");
+    }
+    
+    @Test
+    void testQueryPlan_StatusFilterAndCount() throws SQLException {
+        migrator.migrate();
+        
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? AND t.status = ?",
+                "idx_todo_items_list_status");
+        String countPlan = explain("SELECT count(t.id) FROM todo_items t WHERE t.todo_list_id = ? " +
+                "AND (? IS NULL OR t.status = ?)");
+        assertTrue(countPlan.contains("COVERING INDEX idx_todo_items_list_status"), countPlan);
+    }
+    
+    @Test
+    void testQueryPlan_ListSummaries() throws SQLException {
+        migrator.migrate();
+        
+        assertUsesIndex("SELECT t.todo_list_id, t.status, count(t.id) FROM todo_items t " +
+                "WHERE t.todo_list_id IN (?, ?, ?) GROUP BY t.todo_list_id, t.status",
+                "COVERING INDEX idx_todo_items_list_status");
+    }
+    
+    @Test
+    void testQueryPlan_DashboardSummary() throws SQLException {
+        migrator.migrate();
+        
+        assertUsesIndex("SELECT * FROM list_summaries s WHERE s.as_of < ?", "idx_list_summaries_as_of");
+        assertUsesIndex("SELECT min(t.deadline) FROM todo_items t WHERE t.todo_list_id = ? AND t.deadline >= ? " +
+                "AND t.status <> 'COMPLETED'", "idx_todo_items_list_deadline");
+    }
+    
+    @Test
+    void testQueryPlan_ExpiredFilter() throws SQLException {
+        migrator.migrate();
+        
+        assertUsesIndex("SELECT * FROM todo_items t WHERE t.todo_list_id = ? AND t.deadline < ? AND t.status <> ? " +
+                "ORDER BY t.deadline NULLS FIRST, t.id LIMIT ?", "idx_todo_items_list_deadline");
+        assertUsesIndex("SELECT count(t.id) FROM todo_items t WHERE t.todo_list_id = ? AND t.deadline < ? AND t.status <> ?",
+                "idx_todo_items_list_deadline (todo_list_id=? AND deadline<?)");
+    }
+    
+    @Test
+    void testQueryPlan_SchedulerAndOwnership() throws SQLException {
+        migrator.migrate();
+        
+        assertUsesIndex(ItemRepository.OVERDUE_ITEMS_SQL, "idx_todo_items_active_deadline");
+        assertUsesIndex("SELECT * FROM todo_lists l WHERE l.user_id = ?", "idx_todo_lists_user_id");
+        assertUsesIndex("SELECT * FROM todo_lists l WHERE l.user_id = ? ORDER BY l.id LIMIT ?", "idx_todo_lists_user_id");
+        assertUsesIndex("SELECT * FROM todo_item_dependencies d WHERE d.dependency_item_id = ?",
+                "idx_todo_item_dependencies_dependency");
+    }
+    
+    @Test
+    void testQueryPlan_Agenda() throws SQLException {
+        migrator.migrate();
+        
+        // Each of the user's lists contributes a deadline range; only the matching rows are sorted
+        String plan = explain("SELECT t.id FROM todo_items t JOIN todo_lists l ON l.id = t.todo_list_id " +
+                "WHERE l.user_id = ? AND t.deadline >= ? AND t.deadline <= ? AND t.status IN (?, ?, ?) " +
+                "ORDER BY t.deadline, t.id LIMIT ?");
+        assertTrue(plan.contains("idx_todo_lists_user_id (user_id=?)"), plan);
+        assertTrue(plan.contains("idx_todo_items_list_deadline (todo_list_id=? AND deadline>? AND deadline<?)"), plan);
+    }
+    
+    @Test
+    void testQueryPlan_Export() throws SQLException {
+        migrator.migrate();
+        
+        // Rows come back in index order, so the export streams without a sort
+        assertUsesIndex(ItemExportService.EXPORT_ACCOUNT_SQL, "idx_todo_items_list_created_at");
+        assertTrue(explain(ItemExportService.EXPORT_ACCOUNT_SQL).contains("idx_todo_lists_user_id"));
+        assertUsesIndex(ItemExportService.EXPORT_LIST_SQL, "idx_todo_items_list_created_at");
+    }
+    
+    private void assertUsesIndex(String sql, String index) throws SQLException {
+        String plan = explain(sql);
+        assertTrue(plan.contains(index), "Expected " + index + " in plan:\n" + plan);
+        assertFalse(plan.contains("TEMP B-TREE"), "Unexpected sort in plan:\n" + plan);
+    }
+    
+    private String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString("detail")).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+    
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
+    private int queryInt(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            return rs.getInt(1);
+        }
+    }
+}
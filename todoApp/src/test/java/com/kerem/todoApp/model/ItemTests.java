@@ -115,5 +115,15 @@ class ItemTests {
         assertEquals(1L, item.getId());
         assertEquals(list, item.getList());
     }
-}
 
+    @Test
+    @DisplayName("Test 8: Name sort key follows the name on every write")
+    void testNameSortKeyFollowsName() {
+        item.onCreate();
+        assertEquals("test item", item.getNameSortKey());
+
+        item.setName("Task 10");
+        item.onUpdate();
+        assertEquals("task 0210", item.getNameSortKey());
+    }
+}
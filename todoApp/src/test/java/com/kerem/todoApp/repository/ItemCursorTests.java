@@ -0,0 +1,70 @@
+package com.kerem.todoApp.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemStatus;
+
+public class ItemCursorTests {
+    
+    private static Item item(Long id, String name) {
+        Item item = new Item(name, null, null, null);
+        item.setId(id);
+        item.setStatus(ItemStatus.IN_PROGRESS);
+        item.setCreatedAt(LocalDateTime.of(2026, 1, 20, 10, 30, 15, 123_000_000));
+        return item;
+    }
+    
+    @Test
+    void testEncodeDecode_RoundTripsEachSort() {
+        Item item = item(42L, "Review: code");
+        item.setDeadline(LocalDate.of(2026, 1, 25));
+        
+        for (String sortField : new String[] {"createdAt", "name", "deadline", "status"}) {
+            ItemCursor cursor = ItemCursor.after(item, sortField, true);
+            
+            ItemCursor decoded = ItemCursor.decode(cursor.encode());
+            
+            assertEquals(cursor, decoded);
+        }
+    }
+    
+    @Test
+    void testEncodeDecode_NullDeadline() {
+        ItemCursor cursor = ItemCursor.after(item(7L, "Item"), "deadline", false);
+        
+        ItemCursor decoded = ItemCursor.decode(cursor.encode());
+        
+        assertEquals("deadline", decoded.sortField());
+        assertEquals(7L, decoded.lastId());
+        assertNull(decoded.lastValue());
+    }
+    
+    @Test
+    void testEncode_IsUrlSafe() {
+        String token = ItemCursor.after(item(1L, "a/b+c?d"), "name", false).encode();
+        
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+    
+    @Test
+    void testDecode_InvalidCursor() {
+        assertThrows(InvalidOperationException.class, () -> ItemCursor.decode("not a cursor"));
+        // "v9:name:asc:1:x"
+        assertThrows(InvalidOperationException.class, () -> ItemCursor.decode("djk6bmFtZTphc2M6MTp4"));
+    }
+    
+    @Test
+    void testDecode_RejectsV1Cursor() {
+        // "v1:name:asc:1:x": v1 name cursors carried the name rather than its sort key
+        assertThrows(InvalidOperationException.class, () -> ItemCursor.decode("djE6bmFtZTphc2M6MTp4"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.kerem.todoApp.security;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kerem.todoApp.exception.UnauthorizedAccessException;
+import com.kerem.todoApp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminAccessTests {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @InjectMocks
+    private AdminAccess adminAccess;
+    
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+    }
+    
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() {
+        if (securityUtilsMock != null) {
+            securityUtilsMock.close();
+        }
+    }
+    
+    @Test
+    void testRequireAdmin_FlaggedUser() {
+        // Arrange
+        when(userRepository.findAdminById(1L)).thenReturn(Optional.of(true));
+        
+        // Act & Assert
+        assertDoesNotThrow(() -> adminAccess.requireAdmin());
+    }
+    
+    @Test
+    void testRequireAdmin_UnflaggedOrUnknownUser() {
+        // Arrange
+        when(userRepository.findAdminById(1L)).thenReturn(Optional.of(false), Optional.empty());
+        
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> adminAccess.requireAdmin());
+        assertThrows(UnauthorizedAccessException.class, () -> adminAccess.requireAdmin());
+    }
+}
@@ -0,0 +1,60 @@
+package com.kerem.todoApp.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class CalibratedPasswordEncoderTests {
+    
+    @Test
+    void testCalibration_StaysWithinBounds() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(4, 6, 1000);
+        
+        assertTrue(encoder.getStrength() >= 4 && encoder.getStrength() <= 6);
+        assertTrue(encoder.getMeasuredHashMillis() > 0);
+    }
+    
+    @Test
+    void testCalibration_ZeroTargetUsesMinimum() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(4, 6, 0);
+        
+        assertEquals(4, encoder.getStrength());
+    }
+    
+    @Test
+    void testCalibration_InvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new CalibratedPasswordEncoder(6, 4, 50));
+    }
+    
+    @Test
+    void testEncodeAndMatch() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(4, 4, 50);
+        
+        String encoded = encoder.encode("password123");
+        
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrongpassword", encoded));
+        assertFalse(encoder.upgradeEncoding(encoded));
+    }
+    
+    @Test
+    void testUpgradeEncoding_LowerCost() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(5, 5, 50);
+        String storedAtLowerCost = new BCryptPasswordEncoder(4).encode("password123");
+        
+        assertEquals(4, CalibratedPasswordEncoder.strengthOf(storedAtLowerCost));
+        assertTrue(encoder.upgradeEncoding(storedAtLowerCost));
+    }
+    
+    @Test
+    void testUpgradeEncoding_HigherCostIsKept() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(4, 4, 50);
+        String storedAtHigherCost = new BCryptPasswordEncoder(5).encode("password123");
+        
+        assertEquals(5, CalibratedPasswordEncoder.strengthOf(storedAtHigherCost));
+        assertFalse(encoder.upgradeEncoding(storedAtHigherCost));
+    }
+}
@@ -0,0 +1,121 @@
+package com.kerem.todoApp.security;
+
+import java.security.KeyPair;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+public class JwtKeyRingTests {
+    
+    private static final String LEGACY_SECRET =
+            "testSecretKeyForJWTTokenGenerationThatShouldBeAtLeast512BitsLongForHS512Algorithm";
+    private static final String ROTATED_SECRET = "rotatedSecretKeyForJWTTokensThatIsAtLeast256BitsLong";
+    
+    private final UserDetailsImpl userDetails = new UserDetailsImpl(1L, "testuser", "test@example.com", "encodedPassword");
+    
+    private static JwtKeyRing keyRing(String legacySecret, JwtKeyRingProperties properties) {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(keyRing, "properties", properties);
+        ReflectionTestUtils.setField(keyRing, "legacySecret", legacySecret);
+        keyRing.init();
+        return keyRing;
+    }
+    
+    private static JwtUtils jwtUtils(JwtKeyRing keyRing) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "keyRing", keyRing);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCacheSize", 10);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+    
+    private static JwtKeyRingProperties.KeyConfig key(String algorithm) {
+        JwtKeyRingProperties.KeyConfig config = new JwtKeyRingProperties.KeyConfig();
+        config.setAlgorithm(algorithm);
+        return config;
+    }
+    
+    private String generateToken(JwtUtils jwtUtils) {
+        return jwtUtils.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+    
+    @Test
+    void testRotation_OldTokensStillVerify() {
+        String legacyToken = generateToken(jwtUtils(keyRing(LEGACY_SECRET, new JwtKeyRingProperties())));
+        
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        JwtKeyRingProperties.KeyConfig rotated = key("HS256");
+        rotated.setSecret(ROTATED_SECRET);
+        properties.getKeys().put("k2", rotated);
+        properties.setActiveKeyId("k2");
+        JwtUtils rotatedUtils = jwtUtils(keyRing(LEGACY_SECRET, properties));
+        
+        assertNotNull(rotatedUtils.verifyJwtToken(legacyToken));
+        assertNotNull(rotatedUtils.verifyJwtToken(generateToken(rotatedUtils)));
+    }
+    
+    @Test
+    void testUnknownKeyId_Rejected() {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        JwtKeyRingProperties.KeyConfig rotated = key("HS256");
+        rotated.setSecret(ROTATED_SECRET);
+        properties.getKeys().put("k2", rotated);
+        properties.setActiveKeyId("k2");
+        String token = generateToken(jwtUtils(keyRing(LEGACY_SECRET, properties)));
+        
+        assertNull(jwtUtils(keyRing(LEGACY_SECRET, new JwtKeyRingProperties())).verifyJwtToken(token));
+    }
+    
+    @Test
+    void testEs256_VerifyOnlyNode() {
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        String publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        
+        JwtKeyRingProperties issuing = new JwtKeyRingProperties();
+        JwtKeyRingProperties.KeyConfig signingKey = key("ES256");
+        signingKey.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        signingKey.setPublicKey(publicKey);
+        issuing.getKeys().put("ec1", signingKey);
+        issuing.setActiveKeyId("ec1");
+        String token = generateToken(jwtUtils(keyRing("", issuing)));
+        
+        JwtKeyRingProperties verifying = new JwtKeyRingProperties();
+        JwtKeyRingProperties.KeyConfig verificationKey = key("ES256");
+        verificationKey.setPublicKey(publicKey);
+        verifying.getKeys().put("ec1", verificationKey);
+        verifying.setActiveKeyId("ec1");
+        JwtUtils verifier = jwtUtils(keyRing("", verifying));
+        
+        JwtClaims claims = verifier.verifyJwtToken(token);
+        assertNotNull(claims);
+        assertEquals("testuser", claims.username());
+        assertThrows(IllegalStateException.class, () -> generateToken(verifier));
+    }
+    
+    @Test
+    void testUnsupportedAlgorithm_FailsAtStartup() {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.getKeys().put("ed1", key("EdDSA"));
+        
+        assertThrows(IllegalStateException.class, () -> keyRing(LEGACY_SECRET, properties));
+    }
+    
+    @Test
+    void testMissingActiveKey_FailsAtStartup() {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setActiveKeyId("missing");
+        
+        assertThrows(IllegalStateException.class, () -> keyRing(LEGACY_SECRET, properties));
+    }
+}
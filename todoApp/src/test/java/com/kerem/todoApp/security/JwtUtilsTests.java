@@ -0,0 +1,84 @@
+package com.kerem.todoApp.security;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class JwtUtilsTests {
+    
+    private JwtUtils jwtUtils;
+    private UserDetailsImpl userDetails;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(keyRing, "properties", new JwtKeyRingProperties());
+        ReflectionTestUtils.setField(keyRing, "legacySecret",
+                "testSecretKeyForJWTTokenGenerationThatShouldBeAtLeast512BitsLongForHS512Algorithm");
+        keyRing.init();
+        
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "keyRing", keyRing);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtCacheSize", 2);
+        jwtUtils.init();
+        
+        userDetails = new UserDetailsImpl(1L, "testuser", "test@example.com", "encodedPassword");
+    }
+    
+    private String generateToken() {
+        return jwtUtils.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+    
+    @Test
+    void testVerifyJwtToken_ReturnsClaims() {
+        String token = generateToken();
+        
+        JwtClaims claims = jwtUtils.verifyJwtToken(token);
+        
+        assertNotNull(claims);
+        assertEquals(1L, claims.userId());
+        assertEquals("testuser", claims.username());
+        assertNotNull(claims.tokenId());
+    }
+    
+    @Test
+    void testVerifyJwtToken_CachedOnSecondCall() {
+        String token = generateToken();
+        
+        JwtClaims first = jwtUtils.verifyJwtToken(token);
+        JwtClaims second = jwtUtils.verifyJwtToken(token);
+        
+        assertSame(first, second);
+    }
+    
+    @Test
+    void testVerifyJwtToken_InvalidSignature() {
+        String token = generateToken();
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+        
+        assertNull(jwtUtils.verifyJwtToken(tampered));
+    }
+    
+    @Test
+    void testVerifyJwtToken_CacheStaysBounded() {
+        for (int i = 0; i < 5; i++) {
+            userDetails = new UserDetailsImpl((long) i, "user" + i, "user" + i + "@example.com", "encodedPassword");
+            assertNotNull(jwtUtils.verifyJwtToken(generateToken()));
+        }
+        
+        Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(jwtUtils, "verifiedTokens");
+        assertNotNull(cache);
+        assertTrue(cache.size() <= 2);
+    }
+}
@@ -0,0 +1,48 @@
+package com.kerem.todoApp.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kerem.todoApp.exception.TooManyRequestsException;
+
+public class LoginRateLimiterTests {
+    
+    private LoginRateLimiter loginRateLimiter;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(loginRateLimiter, "usernameCapacity", 2L);
+        ReflectionTestUtils.setField(loginRateLimiter, "ipCapacity", 3L);
+        ReflectionTestUtils.setField(loginRateLimiter, "refillPeriodMs", 60000L);
+    }
+    
+    @Test
+    void testAcquire_UsernameLimit() {
+        loginRateLimiter.acquire("testuser", "10.0.0.1");
+        loginRateLimiter.acquire("TestUser", "10.0.0.2");
+        
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> {
+            loginRateLimiter.acquire("testuser", "10.0.0.3");
+        });
+        
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+    }
+    
+    @Test
+    void testAcquire_IpLimit() {
+        loginRateLimiter.acquire("user1", "10.0.0.1");
+        loginRateLimiter.acquire("user2", "10.0.0.1");
+        loginRateLimiter.acquire("user3", "10.0.0.1");
+        
+        assertThrows(TooManyRequestsException.class, () -> {
+            loginRateLimiter.acquire("user4", "10.0.0.1");
+        });
+        assertDoesNotThrow(() -> loginRateLimiter.acquire("user4", "10.0.0.2"));
+    }
+}
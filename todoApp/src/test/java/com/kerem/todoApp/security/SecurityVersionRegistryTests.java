@@ -0,0 +1,66 @@
+package com.kerem.todoApp.security;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kerem.todoApp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class SecurityVersionRegistryTests {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @InjectMocks
+    private SecurityVersionRegistry securityVersionRegistry;
+    
+    @Test
+    void testIsCurrent_LoadsVersionOnce() {
+        // Arrange
+        when(userRepository.findSecurityVersionById(1L)).thenReturn(Optional.of(2));
+        
+        // Act & Assert
+        assertTrue(securityVersionRegistry.isCurrent(1L, 2));
+        assertFalse(securityVersionRegistry.isCurrent(1L, 1));
+        verify(userRepository, times(1)).findSecurityVersionById(1L);
+    }
+    
+    @Test
+    void testIsCurrent_UnknownUser() {
+        // Arrange
+        when(userRepository.findSecurityVersionById(1L)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertFalse(securityVersionRegistry.isCurrent(1L, 0));
+    }
+    
+    @Test
+    void testUpdate_RejectsOlderTokens() {
+        // Act
+        securityVersionRegistry.update(1L, 3);
+        
+        // Assert
+        assertFalse(securityVersionRegistry.isCurrent(1L, 2));
+        assertTrue(securityVersionRegistry.isCurrent(1L, 3));
+    }
+    
+    @Test
+    void testRevoke_RejectsAllTokens() {
+        // Act
+        securityVersionRegistry.update(1L, 0);
+        securityVersionRegistry.revoke(1L);
+        
+        // Assert
+        assertFalse(securityVersionRegistry.isCurrent(1L, 0));
+    }
+}
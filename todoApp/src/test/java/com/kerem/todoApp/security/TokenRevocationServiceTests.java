@@ -0,0 +1,98 @@
+package com.kerem.todoApp.security;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class TokenRevocationServiceTests {
+    
+    @TempDir
+    Path tempDir;
+    
+    private TokenRevocationService service;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        service = newService();
+    }
+    
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() throws Exception {
+        service.close();
+    }
+    
+    private TokenRevocationService newService() {
+        TokenRevocationService revocationService = new TokenRevocationService();
+        ReflectionTestUtils.setField(revocationService, "jwtExpirationMs", 60000L);
+        ReflectionTestUtils.setField(revocationService, "bucketCount", 4);
+        ReflectionTestUtils.setField(revocationService, "expectedPerBucket", 100L);
+        ReflectionTestUtils.setField(revocationService, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(revocationService, "fileName", tempDir.resolve("revoked.bin").toString());
+        revocationService.init();
+        return revocationService;
+    }
+    
+    private static JwtClaims claims(long expiresAtMillis) {
+        return new JwtClaims(1L, "testuser", "test@example.com", 0, UUID.randomUUID(), expiresAtMillis);
+    }
+    
+    @Test
+    void testRevoke_TokenIsRevoked() {
+        JwtClaims revoked = claims(System.currentTimeMillis() + 30000);
+        JwtClaims other = claims(System.currentTimeMillis() + 30000);
+        
+        service.revoke(revoked);
+        
+        assertTrue(service.isRevoked(revoked));
+        assertFalse(service.isRevoked(other));
+    }
+    
+    @Test
+    void testRevoke_TokenWithoutIdIgnored() {
+        JwtClaims legacy = new JwtClaims(1L, "testuser", "test@example.com", 0, null,
+                System.currentTimeMillis() + 30000);
+        
+        service.revoke(legacy);
+        
+        assertFalse(service.isRevoked(legacy));
+        assertEquals(0, service.size());
+    }
+    
+    @Test
+    void testRevoke_SurvivesRestart() throws Exception {
+        JwtClaims revoked = claims(System.currentTimeMillis() + 30000);
+        service.revoke(revoked);
+        service.close();
+        
+        service = newService();
+        
+        assertTrue(service.isRevoked(revoked));
+        assertEquals(24, Files.size(tempDir.resolve("revoked.bin")));
+    }
+    
+    @Test
+    void testPurgeExpired_DropsExpiredTokens() throws Exception {
+        JwtClaims expiring = claims(System.currentTimeMillis() + 50);
+        JwtClaims live = claims(System.currentTimeMillis() + 30000);
+        service.revoke(expiring);
+        service.revoke(live);
+        
+        Thread.sleep(100);
+        service.purgeExpired();
+        
+        assertEquals(1, service.size());
+        assertTrue(service.isRevoked(live));
+        assertEquals(24, Files.size(tempDir.resolve("revoked.bin")));
+    }
+}
@@ -0,0 +1,144 @@
+package com.kerem.todoApp.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kerem.todoApp.dto.AgendaResponse;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.AgendaRow;
+import com.kerem.todoApp.repository.ItemCursor;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.security.SecurityUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class AgendaServiceTests {
+    
+    @Mock
+    private ItemRepository itemRepository;
+    
+    @InjectMocks
+    private AgendaService agendaService;
+    
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    private LocalDate today;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+    }
+    
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() {
+        if (securityUtilsMock != null) {
+            securityUtilsMock.close();
+        }
+    }
+    
+    private static AgendaRow row(long id, LocalDate deadline) {
+        return new AgendaRow(id, 10L, "Work", "Item " + id, ItemStatus.NOT_STARTED, deadline);
+    }
+    
+    @Test
+    void testGetAgenda_SplitsIntoBuckets() {
+        // Arrange
+        LocalDate from = today.minusDays(7);
+        LocalDate to = today.plusDays(7);
+        when(itemRepository.findAgenda(eq(1L), eq(from), eq(to), any(), eq(null), eq(11)))
+                .thenReturn(List.of(row(1L, today.minusDays(2)), row(2L, today), row(3L, today.plusDays(1))));
+        
+        // Act
+        AgendaResponse response = agendaService.getAgenda(from, to, Set.of(), null, 10);
+        
+        // Assert
+        assertEquals(today, response.getToday());
+        assertEquals(1L, response.getOverdue().get(0).getId());
+        assertEquals(2L, response.getDueToday().get(0).getId());
+        assertEquals(3L, response.getUpcoming().get(0).getId());
+        assertEquals("Work", response.getUpcoming().get(0).getListName());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void testGetAgenda_DefaultsToOpenStatuses() {
+        // Arrange
+        ArgumentCaptor<Collection<ItemStatus>> statuses = ArgumentCaptor.forClass(Collection.class);
+        when(itemRepository.findAgenda(eq(1L), any(), any(), statuses.capture(), any(), anyInt())).thenReturn(List.of());
+        
+        // Act
+        agendaService.getAgenda(today, today, null, "", 10);
+        
+        // Assert
+        assertEquals(EnumSet.of(ItemStatus.NOT_STARTED, ItemStatus.IN_PROGRESS, ItemStatus.EXPIRED),
+                EnumSet.copyOf(statuses.getValue()));
+    }
+    
+    @Test
+    void testGetAgenda_NextCursorResumesAfterLastRow() {
+        // Arrange
+        LocalDate deadline = today.plusDays(3);
+        when(itemRepository.findAgenda(eq(1L), any(), any(), any(), eq(null), eq(3)))
+                .thenReturn(List.of(row(4L, deadline), row(5L, deadline), row(6L, deadline)));
+        
+        // Act
+        AgendaResponse first = agendaService.getAgenda(today, today.plusDays(7), Set.of(), null, 2);
+        agendaService.getAgenda(today, today.plusDays(7), Set.of(), first.getNextCursor(), 2);
+        
+        // Assert
+        assertTrue(first.isHasNext());
+        assertEquals(2, first.getUpcoming().size());
+        verify(itemRepository).findAgenda(eq(1L), any(), any(), any(),
+                eq(new ItemCursor("deadline", false, 5L, deadline)), eq(3));
+    }
+    
+    @Test
+    void testGetAgenda_FromAfterTo() {
+        // Act & Assert
+        InvalidOperationException exception = assertThrows(InvalidOperationException.class,
+                () -> agendaService.getAgenda(today, today.minusDays(1), Set.of(), null, 10));
+        assertEquals("The from date must not be after the to date.", exception.getMessage());
+        verifyNoInteractions(itemRepository);
+    }
+    
+    @Test
+    void testGetAgenda_CursorFromAnotherListing() {
+        // Arrange
+        String cursor = new ItemCursor("deadline", true, 5L, today).encode();
+        
+        // Act & Assert
+        assertThrows(InvalidOperationException.class,
+                () -> agendaService.getAgenda(today, today.plusDays(1), Set.of(), cursor, 10));
+        verifyNoInteractions(itemRepository);
+    }
+}
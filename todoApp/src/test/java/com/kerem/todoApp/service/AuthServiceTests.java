@@ -1,6 +1,8 @@
 package com.kerem.todoApp.service;
 
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -15,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,12 +27,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.kerem.todoApp.dto.JwtResponse;
+import com.kerem.todoApp.exception.AuthenticationException;
 import com.kerem.todoApp.exception.ResourceAlreadyExistsException;
 import com.kerem.todoApp.exception.ResourceNotFoundException;
 import com.kerem.todoApp.model.User;
 import com.kerem.todoApp.repository.UserRepository;
+import com.kerem.todoApp.security.JwtClaims;
 import com.kerem.todoApp.security.JwtUtils;
+import com.kerem.todoApp.security.PasswordHashingExecutor;
 import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.security.SecurityVersionRegistry;
+import com.kerem.todoApp.security.TokenRevocationService;
 import com.kerem.todoApp.security.UserDetailsImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +55,24 @@ public class AuthServiceTests {
     @Mock
     private JwtUtils jwtUtils;
     
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+    
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+    
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+    
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    
+    @Mock
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Mock
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
     @Mock
     private Authentication authentication;
     
@@ -74,6 +100,12 @@ public class AuthServiceTests {
         
         // Configure mock authentication for tests that need it (lenient to avoid UnnecessaryStubbingException)
         lenient().when(mockAuth.getPrincipal()).thenReturn(userDetails);
+        
+        // Run hashing work inline instead of on the pool
+        lenient().when(passwordHashingExecutor.call(any())).thenAnswer(invocation -> {
+            Supplier<?> task = invocation.getArgument(0);
+            return task.get();
+        });
     }
     
     @SuppressWarnings("unused")
@@ -117,8 +149,8 @@ public class AuthServiceTests {
         String email = "new@example.com";
         String password = "password123";
         
-        when(userRepository.existsByUsername(username)).thenReturn(false);
-        when(userRepository.existsByEmail(email)).thenReturn(false);
+        when(userExistenceFilter.usernameExists(username)).thenReturn(false);
+        when(userExistenceFilter.emailExists(email)).thenReturn(false);
         when(encoder.encode(password)).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
         
@@ -126,16 +158,17 @@ public class AuthServiceTests {
         authService.registerUser(username, email, password);
         
         // Assert
-        verify(userRepository).existsByUsername(username);
-        verify(userRepository).existsByEmail(email);
+        verify(userExistenceFilter).usernameExists(username);
+        verify(userExistenceFilter).emailExists(email);
         verify(encoder).encode(password);
         verify(userRepository).save(any(User.class));
+        verify(userExistenceFilter).add(username, email);
     }
     
     @Test
     void testRegisterUser_UsernameTaken() {
         // Arrange
-        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+        when(userExistenceFilter.usernameExists("testuser")).thenReturn(true);
         
         // Act & Assert
         Exception exception = assertThrows(ResourceAlreadyExistsException.class, () -> {
@@ -148,8 +181,8 @@ public class AuthServiceTests {
     @Test
     void testRegisterUser_EmailInUse() {
         // Arrange
-        when(userRepository.existsByUsername("newuser")).thenReturn(false);
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+        when(userExistenceFilter.usernameExists("newuser")).thenReturn(false);
+        when(userExistenceFilter.emailExists("test@example.com")).thenReturn(true);
         
         // Act & Assert
         Exception exception = assertThrows(ResourceAlreadyExistsException.class, () -> {
@@ -169,13 +202,10 @@ public class AuthServiceTests {
         
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(encoder.matches(password, testUser.getPassword())).thenReturn(true);
-        when(userRepository.existsByUsername(newUsername)).thenReturn(false);
-        when(userRepository.existsByEmail(newEmail)).thenReturn(false);
+        when(userExistenceFilter.usernameExists(newUsername)).thenReturn(false);
+        when(userExistenceFilter.emailExists(newEmail)).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(jwtUtils.generateJwtToken(authentication)).thenReturn(jwt);
+        when(jwtUtils.generateJwtToken(any(Authentication.class))).thenReturn(jwt);
         
         // Act
         JwtResponse response = authService.updateUser(newUsername, newEmail, password);
@@ -183,7 +213,11 @@ public class AuthServiceTests {
         // Assert
         assertNotNull(response);
         assertEquals(jwt, response.getToken());
+        assertEquals(newUsername, response.getUsername());
+        assertEquals(1, testUser.getSecurityVersion());
         verify(userRepository).save(any(User.class));
+        verify(securityVersionRegistry).update(1L, 1);
+        verify(authenticationManager, never()).authenticate(any());
     }
     
     @Test
@@ -218,7 +252,7 @@ public class AuthServiceTests {
         // Arrange
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(encoder.matches("password123", testUser.getPassword())).thenReturn(true);
-        when(userRepository.existsByUsername("takenuser")).thenReturn(true);
+        when(userExistenceFilter.usernameExists("takenuser")).thenReturn(true);
         
         // Act & Assert
         Exception exception = assertThrows(ResourceAlreadyExistsException.class, () -> {
@@ -241,6 +275,10 @@ public class AuthServiceTests {
         
         // Assert
         verify(userRepository).delete(testUser);
+        verify(securityVersionRegistry).revoke(1L);
+        verify(listOwnershipCache).ownerDeleted(1L);
+        verify(itemTypeaheadIndex).userDeleted(1L);
+        verify(tokenRevocationService).revoke(null);
     }
     
     @Test
@@ -269,5 +307,28 @@ public class AuthServiceTests {
         
         assertEquals("Incorrect password!", exception.getMessage());
     }
+    
+    @Test
+    void testLogout_RevokesCurrentToken() {
+        // Arrange
+        JwtClaims claims = new JwtClaims(1L, "testuser", "test@example.com", 0, UUID.randomUUID(),
+                System.currentTimeMillis() + 60000);
+        securityUtilsMock.when(SecurityUtils::getCurrentTokenClaims).thenReturn(claims);
+        
+        // Act
+        authService.logout();
+        
+        // Assert
+        verify(tokenRevocationService).revoke(claims);
+    }
+    
+    @Test
+    void testLogout_NoToken() {
+        // Act & Assert
+        Exception exception = assertThrows(AuthenticationException.class, () -> {
+            authService.logout();
+        });
+        
+        assertEquals("No token to revoke", exception.getMessage());
+    }
 }
-
@@ -0,0 +1,143 @@
+package com.kerem.todoApp.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.sqlite.SQLiteDataSource;
+
+import com.kerem.todoApp.config.SchemaMigrator;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.exception.ResourceNotFoundException;
+import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.service.ItemExportService.Format;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemExportServiceTests {
+    
+    private static final long CREATED = Timestamp.valueOf(LocalDateTime.of(2026, 1, 20, 10, 30)).getTime();
+    private static final long DEADLINE = Date.valueOf(LocalDate.of(2026, 1, 25)).getTime();
+    
+    @TempDir
+    Path tempDir;
+    
+    @Mock
+    private ListOwnershipCache listOwnershipCache;
+    
+    @InjectMocks
+    private ItemExportService itemExportService;
+    
+    private JdbcTemplate jdbcTemplate;
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("test.db"));
+        new SchemaMigrator(dataSource, "classpath*:db/migration").migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        ReflectionTestUtils.setField(itemExportService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(itemExportService, "fetchSize", 2);
+        
+        jdbcTemplate.update("INSERT INTO todo_lists (id, name, created_at, user_id) VALUES (10, 'Work', ?, 1)", CREATED);
+        jdbcTemplate.update("INSERT INTO todo_lists (id, name, created_at, user_id) VALUES (11, 'Empty', ?, 1)", CREATED);
+        jdbcTemplate.update("INSERT INTO todo_lists (id, name, created_at, user_id) VALUES (20, 'Other', ?, 2)", CREATED);
+        jdbcTemplate.update("INSERT INTO todo_items (id, name, description, status, deadline, created_at, todo_list_id) " +
+                "VALUES (100, 'Write docs', 'Say \"hi\",\nthen stop', 'NOT_STARTED', ?, ?, 10)", DEADLINE, CREATED);
+        jdbcTemplate.update("INSERT INTO todo_items (id, name, status, created_at, todo_list_id) " +
+                "VALUES (101, 'Review', 'IN_PROGRESS', ?, 10)", CREATED + 1000);
+        jdbcTemplate.update("INSERT INTO todo_items (id, name, status, created_at, todo_list_id) " +
+                "VALUES (200, 'Not mine', 'NOT_STARTED', ?, 20)", CREATED);
+        jdbcTemplate.update("INSERT INTO todo_item_dependencies (dependent_item_id, dependency_item_id) VALUES (101, 100)");
+        
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+    }
+    
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() {
+        if (securityUtilsMock != null) {
+            securityUtilsMock.close();
+        }
+    }
+    
+    @Test
+    void testExportList_Ndjson() throws Exception {
+        // Arrange
+        when(listOwnershipCache.isOwner(10L, 1L)).thenReturn(true);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // Act
+        itemExportService.exportList(10L, Format.NDJSON, () -> output);
+        
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"type\":\"list\",\"id\":10,\"name\":\"Work\",\"createdAt\":\"2026-01-20T10:30:00\"}", lines[0]);
+        assertEquals("{\"type\":\"item\",\"id\":100,\"listId\":10,\"name\":\"Write docs\","
+                + "\"description\":\"Say \\\"hi\\\",\\nthen stop\",\"status\":\"NOT_STARTED\",\"deadline\":\"2026-01-25\","
+                + "\"createdAt\":\"2026-01-20T10:30:00\",\"completedAt\":null,\"dependencies\":[]}", lines[1]);
+        assertEquals("{\"type\":\"item\",\"id\":101,\"listId\":10,\"name\":\"Review\",\"description\":null,"
+                + "\"status\":\"IN_PROGRESS\",\"deadline\":null,\"createdAt\":\"2026-01-20T10:30:01\","
+                + "\"completedAt\":null,\"dependencies\":[100]}", lines[2]);
+    }
+    
+    @Test
+    void testExportAccount_Csv() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // Act
+        itemExportService.exportAccount(Format.CSV, () -> output);
+        
+        // Assert: the other user's list is not exported
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertEquals("listId,listName,listCreatedAt,itemId,name,description,status,deadline,createdAt,completedAt,dependencies\r\n"
+                + "10,Work,2026-01-20T10:30:00,100,Write docs,\"Say \"\"hi\"\",\nthen stop\",NOT_STARTED,2026-01-25,"
+                + "2026-01-20T10:30:00,,\r\n"
+                + "10,Work,2026-01-20T10:30:00,101,Review,,IN_PROGRESS,,2026-01-20T10:30:01,,100\r\n"
+                + "11,Empty,2026-01-20T10:30:00,,,,,,,,\r\n", csv);
+    }
+    
+    @Test
+    void testExportList_NotOwner() {
+        // Arrange
+        when(listOwnershipCache.isOwner(20L, 1L)).thenReturn(false);
+        boolean[] opened = new boolean[1];
+        
+        // Act & Assert: nothing is written, so the error can still be sent as JSON
+        assertThrows(ResourceNotFoundException.class, () -> itemExportService.exportList(20L, Format.CSV, () -> {
+            opened[0] = true;
+            return new ByteArrayOutputStream();
+        }));
+        assertFalse(opened[0]);
+    }
+    
+    @Test
+    void testFormatParse() {
+        assertEquals(Format.CSV, Format.parse(" csv "));
+        assertThrows(InvalidOperationException.class, () -> Format.parse("xml"));
+    }
+}
@@ -0,0 +1,205 @@
+package com.kerem.todoApp.service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.sqlite.SQLiteDataSource;
+
+import com.kerem.todoApp.config.AppConfig;
+import com.kerem.todoApp.config.SchemaMigrator;
+import com.kerem.todoApp.dto.ItemImportRequest;
+import com.kerem.todoApp.dto.ItemImportResponse;
+import com.kerem.todoApp.dto.ItemImportRowResult.Status;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.exception.ResourceNotFoundException;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.security.SecurityUtils;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemImportServiceTests {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Mock
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Mock
+    private ItemListVersions itemListVersions;
+    
+    @Mock
+    private ListSummaryService listSummaryService;
+    
+    @Mock
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
+    @Mock
+    private AppConfig appConfig;
+    
+    @InjectMocks
+    private ItemImportService itemImportService;
+    
+    private JdbcTemplate jdbcTemplate;
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("test.db"));
+        new SchemaMigrator(dataSource, "classpath*:db/migration").migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO todo_lists (id, name, user_id) VALUES (10, 'Work', 1)");
+        jdbcTemplate.update("INSERT INTO todo_items (id, name, status, todo_list_id) VALUES (5, 'Existing', 'NOT_STARTED', 10)");
+        
+        ReflectionTestUtils.setField(itemImportService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(itemImportService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(itemImportService, "maxRows", 10);
+        ReflectionTestUtils.setField(itemImportService, "chunkSize", 2);
+        lenient().when(appConfig.getMaxDependencyDepth()).thenReturn(100L);
+        lenient().when(listOwnershipCache.isOwner(10L, 1L)).thenReturn(true);
+        
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+    }
+    
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() {
+        if (securityUtilsMock != null) {
+            securityUtilsMock.close();
+        }
+    }
+    
+    private static ItemImportRequest item(String ref, ItemStatus status, String... dependsOn) {
+        ItemImportRequest request = new ItemImportRequest();
+        request.setRef(ref);
+        request.setName("Item " + ref);
+        request.setStatus(status);
+        request.setDependsOn(List.of(dependsOn));
+        return request;
+    }
+    
+    @Test
+    void testImportItems_InsertsItemsAndEdges() {
+        // Arrange: b depends on a and c, listed before c
+        List<ItemImportRequest> requests = List.of(
+                item("a", ItemStatus.COMPLETED),
+                item("b", null, "a", "c"),
+                item("c", null));
+        
+        // Act
+        ItemImportResponse response = itemImportService.importItems(10L, requests);
+        
+        // Assert: ids follow the existing item, in row order
+        assertEquals(3, response.getCreated());
+        assertEquals(0, response.getFailed());
+        assertEquals(List.of(6L, 7L, 8L), response.getResults().stream().map(r -> r.getItemId()).toList());
+        assertEquals(List.of("NOT_STARTED", "COMPLETED", "NOT_STARTED", "NOT_STARTED"),
+                jdbcTemplate.queryForList("SELECT status FROM todo_items ORDER BY id", String.class));
+        assertEquals(List.of(6L, 8L), jdbcTemplate.queryForList(
+                "SELECT dependency_item_id FROM todo_item_dependencies WHERE dependent_item_id = 7 " +
+                "ORDER BY dependency_item_id", Long.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM todo_items WHERE id = 6 AND completed_at IS NOT NULL", Integer.class));
+        verify(itemListVersions).bump(10L);
+        verify(listSummaryService).discard(10L);
+        verify(itemTypeaheadIndex).itemsSaved(eq(1L), any());
+    }
+    
+    @Test
+    void testImportItems_ReportsRejectedRows() {
+        // Arrange
+        ItemImportRequest blank = item("blank", null);
+        blank.setName(" ");
+        List<ItemImportRequest> requests = List.of(
+                item("a", null),
+                item("a", null),
+                blank,
+                item("d", null, "blank"),
+                item("e", null, "missing"),
+                item("f", ItemStatus.COMPLETED, "a"),
+                item("g", null, "h"),
+                item("h", null, "g"),
+                item("i", null, "g"));
+        
+        // Act
+        ItemImportResponse response = itemImportService.importItems(10L, requests);
+        
+        // Assert: only the first row is imported
+        assertEquals(1, response.getCreated());
+        List<Status> statuses = response.getResults().stream().map(r -> r.getStatus()).toList();
+        assertEquals(List.of(Status.CREATED, Status.DUPLICATE, Status.INVALID, Status.SKIPPED, Status.INVALID,
+                Status.INVALID, Status.CYCLE, Status.CYCLE, Status.CYCLE), statuses);
+        assertEquals("Unknown dependency: missing", response.getResults().get(4).getMessage());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM todo_items", Integer.class));
+    }
+    
+    @Test
+    void testImportItems_ChainTooDeep() {
+        // Arrange: a chain of four rows with a depth limit of two
+        when(appConfig.getMaxDependencyDepth()).thenReturn(2L);
+        List<ItemImportRequest> requests = new ArrayList<>();
+        requests.add(item("0", null));
+        for (int i = 1; i < 4; i++) {
+            requests.add(item(Integer.toString(i), null, Integer.toString(i - 1)));
+        }
+        
+        // Act
+        ItemImportResponse response = itemImportService.importItems(10L, requests);
+        
+        // Assert
+        assertEquals(List.of(Status.CREATED, Status.CREATED, Status.CREATED, Status.INVALID),
+                response.getResults().stream().map(r -> r.getStatus()).toList());
+        assertEquals("Dependency chain too deep.", response.getResults().get(3).getMessage());
+    }
+    
+    @Test
+    void testImportItems_NothingValidWritesNothing() {
+        // Act
+        ItemImportResponse response = itemImportService.importItems(10L, List.of(item("a", null, "a")));
+        
+        // Assert
+        assertEquals(0, response.getCreated());
+        verify(itemListVersions, never()).bump(anyLong());
+    }
+    
+    @Test
+    void testImportItems_NotOwnerOrTooManyRows() {
+        // Arrange
+        when(listOwnershipCache.isOwner(20L, 1L)).thenReturn(false);
+        List<ItemImportRequest> tooMany = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            tooMany.add(item(Integer.toString(i), null));
+        }
+        
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> itemImportService.importItems(20L, List.of(item("a", null))));
+        assertThrows(InvalidOperationException.class, () -> itemImportService.importItems(10L, tooMany));
+    }
+}
@@ -15,20 +15,31 @@ import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import com.kerem.todoApp.dto.ItemListCreateRequest;
 import com.kerem.todoApp.dto.ItemListResponse;
 import com.kerem.todoApp.dto.ItemListUpdateRequest;
 import com.kerem.todoApp.exception.ResourceNotFoundException;
 import com.kerem.todoApp.mapper.ItemListMapper;
+import com.kerem.todoApp.model.ItemStatus;
 import com.kerem.todoApp.model.User;
 import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.repository.ItemStatusCount;
 import com.kerem.todoApp.repository.UserRepository;
 import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.util.FieldSet;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemListServiceTests {
@@ -36,12 +47,27 @@ public class ItemListServiceTests {
     @Mock
     private ItemListRepository itemListRepository;
     
+    @Mock
+    private ItemRepository itemRepository;
+    
     @Mock
     private UserRepository userRepository;
     
     @Mock
     private ItemListMapper itemListMapper;
     
+    @Mock
+    private ItemListVersions itemListVersions;
+    
+    @Mock
+    private ListSummaryService listSummaryService;
+    
+    @Mock
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Mock
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
     @InjectMocks
     private ItemListService itemListService;
     
@@ -65,6 +91,18 @@ public class ItemListServiceTests {
         // Mock SecurityUtils to return user ID
         securityUtilsMock = mockStatic(SecurityUtils.class);
         securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+        
+        // The real default method over a stubbed field mapping
+        lenient().when(itemListMapper.toResponseWithoutCounts(any(com.kerem.todoApp.model.ItemList.class)))
+                .thenAnswer(invocation -> {
+                    com.kerem.todoApp.model.ItemList list = invocation.getArgument(0);
+                    ItemListResponse response = new ItemListResponse();
+                    response.setId(list.getId());
+                    response.setName(list.getName());
+                    response.setCreatedAt(list.getCreatedAt());
+                    return response;
+                });
+        lenient().when(itemListMapper.toResponse(any(com.kerem.todoApp.model.ItemList.class), any())).thenCallRealMethod();
     }
     
     @SuppressWarnings("unused")
@@ -79,58 +117,95 @@ public class ItemListServiceTests {
     void testGetUserLists_Success() {
         // Arrange
         List<com.kerem.todoApp.model.ItemList> lists = Arrays.asList(testList1, testList2);
-        ItemListResponse response1 = new ItemListResponse();
-        response1.setId(1L);
-        response1.setName("List 1");
-        ItemListResponse response2 = new ItemListResponse();
-        response2.setId(2L);
-        response2.setName("List 2");
+        Pageable pageable = PageRequest.of(0, 20);
         
-        when(itemListRepository.findByUserId(1L)).thenReturn(lists);
-        when(itemListMapper.toResponse(testList1)).thenReturn(response1);
-        when(itemListMapper.toResponse(testList2)).thenReturn(response2);
+        when(itemListRepository.findByUserId(1L, pageable)).thenReturn(new PageImpl<>(lists, pageable, 2));
+        when(itemRepository.countByStatusForLists(List.of(1L, 2L))).thenReturn(List.of(
+                new ItemStatusCount(1L, ItemStatus.NOT_STARTED, 2),
+                new ItemStatusCount(1L, ItemStatus.COMPLETED, 1)));
         
         // Act
-        List<ItemListResponse> result = itemListService.getUserLists();
+        Page<ItemListResponse> result = itemListService.getUserLists(pageable, FieldSet.ALL);
         
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("List 1", result.get(0).getName());
-        assertEquals("List 2", result.get(1).getName());
-        verify(itemListRepository).findByUserId(1L);
+        assertEquals(2, result.getContent().size());
+        assertEquals("List 1", result.getContent().get(0).getName());
+        assertEquals("List 2", result.getContent().get(1).getName());
+        verify(itemListRepository).findByUserId(1L, pageable);
+    }
+    
+    @Test
+    void testGetUserLists_CountsFromOneAggregateQuery() {
+        // Arrange: the lists' item collections must stay untouched
+        testList1.setItems(null);
+        testList2.setItems(null);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(itemListRepository.findByUserId(1L, pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(testList1, testList2), pageable, 2));
+        when(itemRepository.countByStatusForLists(List.of(1L, 2L))).thenReturn(List.of(
+                new ItemStatusCount(1L, ItemStatus.NOT_STARTED, 2),
+                new ItemStatusCount(1L, ItemStatus.COMPLETED, 1)));
+        
+        // Act
+        Page<ItemListResponse> result = itemListService.getUserLists(pageable, FieldSet.ALL);
+        
+        // Assert
+        ItemListResponse first = result.getContent().get(0);
+        assertEquals(3, first.getItemCount());
+        assertEquals(2L, first.getStatusCounts().get(ItemStatus.NOT_STARTED));
+        assertEquals(0L, first.getStatusCounts().get(ItemStatus.IN_PROGRESS));
+        assertEquals(1L, first.getStatusCounts().get(ItemStatus.COMPLETED));
+        ItemListResponse second = result.getContent().get(1);
+        assertEquals(0, second.getItemCount());
+        assertEquals(0L, second.getStatusCounts().get(ItemStatus.COMPLETED));
+    }
+    
+    @Test
+    void testGetUserLists_NamesOnlySkipCounts() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        when(itemListRepository.findByUserId(1L, pageable)).thenReturn(new PageImpl<>(Arrays.asList(testList1, testList2)));
+        
+        // Act
+        Page<ItemListResponse> result = itemListService.getUserLists(pageable,
+                FieldSet.parse("name", ItemListResponse.FIELDS.keySet()));
+        
+        // Assert
+        assertEquals(2, result.getContent().size());
+        verify(itemRepository, never()).countByStatusForLists(any());
     }
     
     @Test
     void testGetUserLists_EmptyList() {
         // Arrange
-        when(itemListRepository.findByUserId(1L)).thenReturn(Arrays.asList());
+        Pageable pageable = PageRequest.of(0, 20);
+        when(itemListRepository.findByUserId(1L, pageable)).thenReturn(Page.empty(pageable));
         
         // Act
-        List<ItemListResponse> result = itemListService.getUserLists();
+        Page<ItemListResponse> result = itemListService.getUserLists(pageable, FieldSet.ALL);
         
         // Assert
         assertNotNull(result);
-        assertEquals(0, result.size());
+        assertEquals(0, result.getContent().size());
+        verifyNoInteractions(itemRepository);
     }
     
     @Test
     void testGetListById_Success() {
         // Arrange
-        ItemListResponse response = new ItemListResponse();
-        response.setId(1L);
-        response.setName("List 1");
-        
         when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList1));
-        when(itemListMapper.toResponse(testList1)).thenReturn(response);
+        when(itemRepository.countByStatusForLists(List.of(1L)))
+                .thenReturn(List.of(new ItemStatusCount(1L, ItemStatus.IN_PROGRESS, 4)));
         
         // Act
-        ItemListResponse result = itemListService.getListById(1L);
+        ItemListResponse result = itemListService.getListById(1L, FieldSet.ALL);
         
         // Assert
         assertNotNull(result);
         assertEquals("List 1", result.getName());
         assertEquals(1L, result.getId());
+        assertEquals(4, result.getItemCount());
         verify(itemListRepository).findByIdAndUserId(1L, 1L);
     }
     
@@ -141,7 +216,7 @@ public class ItemListServiceTests {
         
         // Act & Assert
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
-            itemListService.getListById(1L);
+            itemListService.getListById(1L, FieldSet.ALL);
         });
         
         assertEquals("List not found", exception.getMessage());
@@ -152,13 +227,9 @@ public class ItemListServiceTests {
         // Arrange
         ItemListCreateRequest request = new ItemListCreateRequest();
         request.setName("New List");
-        ItemListResponse response = new ItemListResponse();
-        response.setId(1L);
-        response.setName("New List");
         
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(itemListRepository.save(any(com.kerem.todoApp.model.ItemList.class))).thenReturn(testList1);
-        when(itemListMapper.toResponse(testList1)).thenReturn(response);
         
         // Act
         ItemListResponse result = itemListService.createList(request);
@@ -167,6 +238,7 @@ public class ItemListServiceTests {
         assertNotNull(result);
         verify(userRepository).findById(1L);
         verify(itemListRepository).save(any(com.kerem.todoApp.model.ItemList.class));
+        verifyNoInteractions(itemRepository);
     }
     
     @Test
@@ -189,13 +261,10 @@ public class ItemListServiceTests {
         // Arrange
         ItemListUpdateRequest request = new ItemListUpdateRequest();
         request.setName("Updated List");
-        ItemListResponse response = new ItemListResponse();
-        response.setId(1L);
-        response.setName("Updated List");
         
         when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList1));
         when(itemListRepository.save(any(com.kerem.todoApp.model.ItemList.class))).thenReturn(testList1);
-        when(itemListMapper.toResponse(testList1)).thenReturn(response);
+        when(itemRepository.countByStatusForLists(List.of(1L))).thenReturn(List.of());
         
         // Act
         ItemListResponse result = itemListService.updateList(1L, request);
@@ -204,6 +273,7 @@ public class ItemListServiceTests {
         assertNotNull(result);
         verify(itemListRepository).findByIdAndUserId(1L, 1L);
         verify(itemListRepository).save(testList1);
+        verify(itemListVersions).bump(1L);
     }
     
     @Test
@@ -232,6 +302,10 @@ public class ItemListServiceTests {
         // Assert
         verify(itemListRepository).findByIdAndUserId(1L, 1L);
         verify(itemListRepository).delete(testList1);
+        verify(listSummaryService).discard(1L);
+        verify(listOwnershipCache).listDeleted(1L);
+        verify(itemTypeaheadIndex).listDeleted(1L, 1L);
+        verify(itemListVersions).bumpListSet(1L);
     }
     
     @Test
@@ -246,4 +320,31 @@ public class ItemListServiceTests {
         
         assertEquals("List not found", exception.getMessage());
     }
+    
+    @Test
+    void testGetListVersion_NotOwned() {
+        // Arrange
+        when(itemListRepository.findVersionByIdAndUserId(2L, 1L)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
+            itemListService.getListVersion(2L);
+        });
+        
+        assertEquals("List not found", exception.getMessage());
+        verifyNoInteractions(itemRepository);
+    }
+    
+    @Test
+    void testGetListSetVersion_Success() {
+        // Arrange
+        when(userRepository.findListsVersionById(1L)).thenReturn(Optional.of(42L));
+        
+        // Act
+        long version = itemListService.getListSetVersion();
+        
+        // Assert
+        assertEquals(42L, version);
+        verifyNoInteractions(itemListRepository);
+    }
 }
@@ -0,0 +1,184 @@
+package com.kerem.todoApp.service;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.sqlite.SQLiteDataSource;
+
+import com.kerem.todoApp.config.SchemaMigrator;
+import com.kerem.todoApp.dto.ItemSearchResult;
+import com.kerem.todoApp.dto.ItemTypeaheadResult;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.exception.ResourceNotFoundException;
+import com.kerem.todoApp.model.ItemList;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.security.SecurityUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemSearchServiceTests {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Mock
+    private ItemListRepository itemListRepository;
+    
+    @Mock
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Mock
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
+    @InjectMocks
+    private ItemSearchService itemSearchService;
+    
+    private JdbcTemplate jdbcTemplate;
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    
+    @BeforeEach
+    void setUp() {
+        // Real SQLite with the migrated schema, so the FTS5 table and its triggers are exercised
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + tempDir.resolve("search.db"));
+        new SchemaMigrator(dataSource, "classpath*:db/migration").migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        ReflectionTestUtils.setField(itemSearchService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(itemSearchService, "maxResults", 50);
+        ReflectionTestUtils.setField(itemSearchService, "maxTypeaheadResults", 20);
+        
+        jdbcTemplate.update("INSERT INTO todo_lists (id, name, user_id) VALUES (1, 'Home', 1), (2, 'Work', 1), (3, 'Other', 2)");
+        insertItem(1, "Buy groceries", "Milk, eggs and café beans", 1);
+        insertItem(2, "Groom the dog", null, 1);
+        insertItem(3, "Prepare slides", "Quarterly review for the grocery chain", 2);
+        insertItem(4, "Grocery budget", "Someone else's list", 3);
+        
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        securityUtilsMock.close();
+    }
+    
+    @Test
+    void testSearch_PrefixAcrossUserLists() {
+        // Act
+        List<ItemSearchResult> results = itemSearchService.search("groc", null, 10);
+        
+        // Assert: only the user's items, the name match ranked first
+        assertEquals(2, results.size());
+        assertEquals(1L, results.get(0).getItemId());
+        assertEquals("Buy <mark>groceries</mark>", results.get(0).getName());
+        assertEquals(3L, results.get(1).getItemId());
+        assertEquals("Work", results.get(1).getListName());
+        assertTrue(results.get(1).getDescriptionSnippet().contains("<mark>grocery</mark>"));
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+    }
+    
+    @Test
+    void testSearch_ScopedToList() {
+        // Arrange
+        when(itemListRepository.findByIdAndUserId(2L, 1L)).thenReturn(Optional.of(new ItemList()));
+        
+        // Act
+        List<ItemSearchResult> results = itemSearchService.search("groc", 2L, 10);
+        
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(3L, results.get(0).getItemId());
+    }
+    
+    @Test
+    void testSearch_ListOfAnotherUser() {
+        when(itemListRepository.findByIdAndUserId(3L, 1L)).thenReturn(Optional.empty());
+        
+        assertThrows(ResourceNotFoundException.class, () -> itemSearchService.search("groc", 3L, 10));
+    }
+    
+    @Test
+    void testSearch_IgnoresAccentsAndCase() {
+        List<ItemSearchResult> results = itemSearchService.search("CAFE", null, 10);
+        
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).getDescriptionSnippet().contains("<mark>café</mark>"));
+    }
+    
+    @Test
+    void testSearch_FollowsUpdatesAndDeletes() {
+        // Act
+        jdbcTemplate.update("UPDATE todo_items SET name = 'Walk the dog' WHERE id = 2");
+        jdbcTemplate.update("DELETE FROM todo_items WHERE id = 1");
+        
+        // Assert
+        assertEquals(0, itemSearchService.search("groom", null, 10).size());
+        assertEquals(1, itemSearchService.search("walk", null, 10).size());
+        assertEquals(List.of(3L), itemSearchService.search("groc", null, 10).stream()
+                .map(ItemSearchResult::getItemId).toList());
+    }
+    
+    @Test
+    void testSearch_EscapesStoredHtml() {
+        insertItem(5, "<script>alert(1)</script> groceries", null, 1);
+        
+        ItemSearchResult result = itemSearchService.search("script", null, 10).get(0);
+        
+        assertEquals("&lt;<mark>script</mark>&gt;alert(1)&lt;/<mark>script</mark>&gt; groceries", result.getName());
+        assertNull(result.getDescriptionSnippet());
+    }
+    
+    @Test
+    void testTypeahead_BoundsLimit() {
+        // Arrange
+        List<ItemTypeaheadResult> suggestions = List.of(new ItemTypeaheadResult(2L, 1L, "Groom the dog", ItemStatus.NOT_STARTED));
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemTypeaheadIndex.search(1L, 1L, "gro", 20)).thenReturn(suggestions);
+        
+        // Act
+        List<ItemTypeaheadResult> results = itemSearchService.typeahead("gro", 1L, 1000);
+        
+        // Assert
+        assertEquals(suggestions, results);
+        verify(itemTypeaheadIndex).search(1L, 1L, "gro", 20);
+    }
+    
+    @Test
+    void testTypeahead_ListOfAnotherUser() {
+        when(listOwnershipCache.isOwner(3L, 1L)).thenReturn(false);
+        
+        assertThrows(ResourceNotFoundException.class, () -> itemSearchService.typeahead("gro", 3L, 10));
+        verifyNoInteractions(itemTypeaheadIndex);
+    }
+    
+    @Test
+    void testToMatchQuery_QuotesTermsAsPrefixes() {
+        assertEquals("\"buy\"* \"milk\"*", ItemSearchService.toMatchQuery("buy \"milk\" -*"));
+        assertThrows(InvalidOperationException.class, () -> ItemSearchService.toMatchQuery(" -*() "));
+    }
+    
+    private void insertItem(long id, String name, String description, long listId) {
+        jdbcTemplate.update("INSERT INTO todo_items (id, name, description, status, todo_list_id) VALUES (?, ?, ?, 'NOT_STARTED', ?)",
+                id, name, description, listId);
+    }
+}
@@ -9,28 +9,42 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.kerem.todoApp.config.AppConfig;
 import com.kerem.todoApp.dto.ItemCreateRequest;
 import com.kerem.todoApp.dto.ItemResponse;
+import com.kerem.todoApp.dto.ItemSliceResponse;
 import com.kerem.todoApp.dto.ItemUpdateRequest;
 import com.kerem.todoApp.exception.InvalidOperationException;
 import com.kerem.todoApp.exception.ResourceNotFoundException;
@@ -38,9 +52,16 @@ import com.kerem.todoApp.mapper.ItemMapper;
 import com.kerem.todoApp.model.Item;
 import com.kerem.todoApp.model.ItemStatus;
 import com.kerem.todoApp.model.User;
+import com.kerem.todoApp.repository.DependencyEdge;
+import com.kerem.todoApp.repository.ItemCursor;
+import com.kerem.todoApp.repository.ItemFilter;
 import com.kerem.todoApp.repository.ItemListRepository;
 import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.repository.ItemRow;
+import com.kerem.todoApp.repository.VersionedItemRow;
 import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.util.FieldSet;
+import com.kerem.todoApp.service.ListSummaryService.ItemSnapshot;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemServiceTests {
@@ -57,6 +78,18 @@ public class ItemServiceTests {
     @Mock
     private AppConfig appConfig;
     
+    @Mock
+    private ItemListVersions itemListVersions;
+    
+    @Mock
+    private ListSummaryService listSummaryService;
+    
+    @Mock
+    private ListOwnershipCache listOwnershipCache;
+    
+    @Mock
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
     @InjectMocks
     private ItemService itemService;
     
@@ -127,6 +160,22 @@ public class ItemServiceTests {
             return response;
         });
         
+        // Read path: the real default method over a stubbed field mapping
+        lenient().when(itemMapper.toResponseWithoutDependencies(any(ItemRow.class))).thenAnswer(invocation -> {
+            ItemRow row = invocation.getArgument(0);
+            ItemResponse response = new ItemResponse();
+            response.setId(row.id());
+            response.setName(row.name());
+            response.setDescription(row.description());
+            response.setStatus(row.status());
+            response.setDeadline(row.deadline());
+            response.setCreatedAt(row.createdAt());
+            response.setCompletedAt(row.completedAt());
+            response.setExpired(row.isExpired());
+            return response;
+        });
+        lenient().when(itemMapper.toResponse(any(ItemRow.class), any(), any())).thenCallRealMethod();
+        
         lenient().when(itemMapper.toEntity(any(ItemCreateRequest.class))).thenAnswer(invocation -> {
             ItemCreateRequest request = invocation.getArgument(0);
             Item item = new Item();
@@ -161,34 +210,34 @@ public class ItemServiceTests {
     @Test
     void testGetItemsForList_NoFilters() {
         // Arrange
-        List<Item> items = Arrays.asList(testItem1, testItem2, testItem3);
-        Page<Item> page = new PageImpl<>(items);
+        List<ItemRow> items = rows(testItem1, testItem2, testItem3);
+        Page<ItemRow> page = new PageImpl<>(items);
         Pageable pageable = PageRequest.of(0, 20);
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByListIdWithFilters(any(Long.class), any(), any(), any(Pageable.class))).thenReturn(page);
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(any(ItemFilter.class), any(Pageable.class), eq(true))).thenReturn(page);
         
         // Act
-        Page<ItemResponse> result = itemService.getItemsForList(1L, null, null, pageable);
+        Page<ItemResponse> result = itemService.getItemsForList(1L, null, null, null, pageable, FieldSet.ALL);
         
         // Assert
         assertNotNull(result);
         assertEquals(3, result.getContent().size());
-        verify(itemRepository).findByListIdWithFilters(any(Long.class), any(), any(), any(Pageable.class));
+        verify(itemRepository).findByFilter(new ItemFilter(1L, null, null, null), pageable, true);
     }
     
     @Test
     void testGetItemsForList_FilterByStatus() {
         // Arrange
-        List<Item> items = Arrays.asList(testItem3);
-        Page<Item> page = new PageImpl<>(items);
+        List<ItemRow> items = rows(testItem3);
+        Page<ItemRow> page = new PageImpl<>(items);
         Pageable pageable = PageRequest.of(0, 20);
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByListIdWithFilters(1L, ItemStatus.COMPLETED, null, pageable)).thenReturn(page);
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(new ItemFilter(1L, ItemStatus.COMPLETED, null, null), pageable, true)).thenReturn(page);
         
         // Act
-        Page<ItemResponse> result = itemService.getItemsForList(1L, ItemStatus.COMPLETED, null, pageable);
+        Page<ItemResponse> result = itemService.getItemsForList(1L, ItemStatus.COMPLETED, null, null, pageable, FieldSet.ALL);
         
         // Assert
         assertNotNull(result);
@@ -199,15 +248,15 @@ public class ItemServiceTests {
     @Test
     void testGetItemsForList_FilterByName() {
         // Arrange
-        List<Item> items = Arrays.asList(testItem1);
-        Page<Item> page = new PageImpl<>(items);
+        List<ItemRow> items = rows(testItem1);
+        Page<ItemRow> page = new PageImpl<>(items);
         Pageable pageable = PageRequest.of(0, 20);
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByListIdWithFilters(1L, null, "Item 1", pageable)).thenReturn(page);
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(new ItemFilter(1L, null, "Item 1", null), pageable, true)).thenReturn(page);
         
         // Act
-        Page<ItemResponse> result = itemService.getItemsForList(1L, null, "Item 1", pageable);
+        Page<ItemResponse> result = itemService.getItemsForList(1L, null, "Item 1", null, pageable, FieldSet.ALL);
         
         // Assert
         assertNotNull(result);
@@ -215,18 +264,36 @@ public class ItemServiceTests {
         assertEquals("Item 1", result.getContent().get(0).getName());
     }
     
+    @Test
+    void testGetItemsForList_SparseFieldsSkipDescriptionAndDependencies() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        FieldSet fields = FieldSet.parse("name,status", ItemResponse.FIELDS.keySet());
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(new ItemFilter(1L, null, null, null), pageable, false))
+                .thenReturn(new PageImpl<>(rows(testItem1)));
+        
+        // Act
+        Page<ItemResponse> result = itemService.getItemsForList(1L, null, null, null, pageable, fields);
+        
+        // Assert
+        assertEquals("Item 1", result.getContent().get(0).getName());
+        assertEquals(1L, result.getContent().get(0).getListId());
+        verify(itemRepository, never()).findDependencyEdges(any());
+    }
+    
     @Test
     void testGetItemsForList_SortByName() {
         // Arrange
-        List<Item> items = Arrays.asList(testItem1, testItem2, testItem3);
-        Page<Item> page = new PageImpl<>(items);
+        List<ItemRow> items = rows(testItem1, testItem2, testItem3);
+        Page<ItemRow> page = new PageImpl<>(items);
         Pageable pageable = PageRequest.of(0, 20, org.springframework.data.domain.Sort.by("name").ascending());
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByListIdWithFilters(any(Long.class), any(), any(), any(Pageable.class))).thenReturn(page);
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(any(ItemFilter.class), any(Pageable.class), eq(true))).thenReturn(page);
         
         // Act
-        Page<ItemResponse> result = itemService.getItemsForList(1L, null, null, pageable);
+        Page<ItemResponse> result = itemService.getItemsForList(1L, null, null, null, pageable, FieldSet.ALL);
         
         // Assert
         assertNotNull(result);
@@ -237,43 +304,219 @@ public class ItemServiceTests {
     }
     
     @Test
-    void testGetItemById_Success() {
+    void testGetItemSliceForList_ReturnsNextCursor() {
         // Arrange
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findPageAfter(new ItemFilter(1L, null, null, null), "name", false, null, 3, true))
+                .thenReturn(rows(testItem1, testItem2, testItem3));
+        when(itemRepository.countByFilter(new ItemFilter(1L, null, null, null))).thenReturn(3L);
         
         // Act
-        ItemResponse result = itemService.getItemById(1L, 1L);
+        ItemSliceResponse<ItemResponse> result = itemService.getItemSliceForList(1L, 5L, null, null, null, "name", false, "", 2, FieldSet.ALL);
         
         // Assert
-        assertNotNull(result);
-        assertEquals("Item 1", result.getName());
-        verify(itemListRepository).findByIdAndUserId(1L, 1L);
-        verify(itemRepository).findByIdAndListId(1L, 1L);
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(3L, result.getApproximateTotal());
+        ItemCursor next = ItemCursor.decode(result.getNextCursor());
+        assertEquals(2L, next.lastId());
+        assertEquals("item 012", next.lastValue());
+    }
+    
+    @Test
+    void testGetItemSliceForList_CursorCarriesSort() {
+        // Arrange
+        String cursor = ItemCursor.after(testItem1, "name", true).encode();
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findPageAfter(any(ItemFilter.class), eq("name"), eq(true), any(ItemCursor.class), eq(3), eq(true)))
+                .thenReturn(rows(testItem2));
+        when(itemRepository.countByFilter(new ItemFilter(1L, null, null, null))).thenReturn(3L);
+        
+        // Act
+        ItemSliceResponse<ItemResponse> result = itemService.getItemSliceForList(1L, 5L, null, null, null, "createdAt", false, cursor, 2, FieldSet.ALL);
+        
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+    
+    @Test
+    void testGetItemSliceForList_CountCachedPerListVersion() {
+        // Arrange
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findPageAfter(any(ItemFilter.class), any(), anyBoolean(), any(), anyInt(), anyBoolean()))
+                .thenReturn(rows(testItem1));
+        when(itemRepository.countByFilter(new ItemFilter(1L, null, null, null))).thenReturn(1L);
+        
+        // Act
+        itemService.getItemSliceForList(1L, 5L, null, null, null, "createdAt", false, "", 2, FieldSet.ALL);
+        itemService.getItemSliceForList(1L, 5L, null, null, null, "createdAt", false, "", 2, FieldSet.ALL);
+        itemService.getItemSliceForList(1L, 6L, null, null, null, "createdAt", false, "", 2, FieldSet.ALL);
+        
+        // Assert
+        verify(itemRepository, times(2)).countByFilter(new ItemFilter(1L, null, null, null));
     }
     
     @Test
-    void testGetItemById_ListNotFound() {
+    void testGetItemsForList_FilterByExpired() {
         // Arrange
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
+        Pageable pageable = PageRequest.of(0, 20);
+        ItemFilter filter = new ItemFilter(1L, ItemStatus.IN_PROGRESS, "Item", true);
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(filter, pageable, true)).thenReturn(new PageImpl<>(rows(testItem2)));
+        
+        // Act
+        Page<ItemResponse> result = itemService.getItemsForList(1L, ItemStatus.IN_PROGRESS, " Item ", true, pageable, FieldSet.ALL);
+        
+        // Assert: the filter goes to the query instead of being applied to the page
+        assertEquals(1, result.getContent().size());
+        verify(itemRepository).findByFilter(filter, pageable, true);
+    }
+    
+    @Test
+    void testGetItemSliceForList_ExpiredCountKeyedByFilter() {
+        // Arrange
+        ItemFilter overdue = new ItemFilter(1L, null, null, true);
+        ItemFilter current = new ItemFilter(1L, null, null, false);
+        ReflectionTestUtils.setField(itemService, "itemCountCacheSize", 100);
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findPageAfter(any(ItemFilter.class), any(), anyBoolean(), any(), anyInt(), anyBoolean()))
+                .thenReturn(rows(testItem1));
+        when(itemRepository.countByFilter(overdue)).thenReturn(4L);
+        when(itemRepository.countByFilter(current)).thenReturn(9L);
+        
+        // Act
+        ItemSliceResponse<ItemResponse> overdueSlice = itemService.getItemSliceForList(1L, 5L, null, null, true, "deadline", false, "", 2, FieldSet.ALL);
+        ItemSliceResponse<ItemResponse> currentSlice = itemService.getItemSliceForList(1L, 5L, null, null, false, "deadline", false, "", 2, FieldSet.ALL);
+        itemService.getItemSliceForList(1L, 5L, null, null, true, "deadline", false, "", 2, FieldSet.ALL);
+        
+        // Assert
+        assertEquals(4L, overdueSlice.getApproximateTotal());
+        assertEquals(9L, currentSlice.getApproximateTotal());
+        verify(itemRepository, times(1)).countByFilter(overdue);
+    }
+    
+    @Test
+    void testGetItemsForList_BatchesDependencies() {
+        // Arrange: touching an item's lazy dependency collection would be one query per item
+        List<Item> items = itemsWithUntouchableDependencies(2);
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(any(ItemFilter.class), any(Pageable.class), eq(true)))
+                .thenReturn(new PageImpl<>(rows(items.toArray(Item[]::new))));
+        when(itemRepository.findDependencyEdges(List.of(100L, 101L))).thenReturn(List.of(
+                new DependencyEdge(100L, 2L, "Item 2", ItemStatus.IN_PROGRESS),
+                new DependencyEdge(100L, 3L, "Item 3", ItemStatus.COMPLETED),
+                new DependencyEdge(101L, 3L, "Item 3", ItemStatus.COMPLETED)));
+        
+        // Act
+        Page<ItemResponse> result = itemService.getItemsForList(1L, null, null, null, PageRequest.of(0, 20), FieldSet.ALL);
+        
+        // Assert
+        ItemResponse first = result.getContent().get(0);
+        assertEquals(1L, first.getListId());
+        assertEquals(List.of(2L, 3L), first.getDependencies().stream().map(ItemResponse.DependencyInfo::getId).toList());
+        assertFalse(first.isCanBeCompleted());
+        assertTrue(result.getContent().get(1).isCanBeCompleted());
+        items.forEach(item -> verifyNoInteractions(item.getDependencies()));
+    }
+    
+    @Test
+    void testGetItemsForList_QueryCountIndependentOfPageSize() {
+        // Arrange
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemRepository.findByFilter(any(ItemFilter.class), any(Pageable.class), eq(true)))
+                .thenReturn(new PageImpl<>(rows(itemsWithUntouchableDependencies(2).toArray(Item[]::new))))
+                .thenReturn(new PageImpl<>(rows(itemsWithUntouchableDependencies(20).toArray(Item[]::new))));
+        when(itemRepository.findDependencyEdges(any())).thenReturn(List.of());
+        
+        // Act
+        itemService.getItemsForList(1L, null, null, null, PageRequest.of(0, 2), FieldSet.ALL);
+        int smallPageQueries = repositoryCalls();
+        clearInvocations(itemRepository, itemListRepository);
+        itemService.getItemsForList(1L, null, null, null, PageRequest.of(0, 20), FieldSet.ALL);
+        
+        // Assert: page and dependency edges; ownership is checked through the cache
+        assertEquals(2, smallPageQueries);
+        assertEquals(smallPageQueries, repositoryCalls());
+    }
+    
+    @Test
+    void testToResponse_BatchesDependencies() {
+        // Arrange
+        Item item = itemsWithUntouchableDependencies(1).get(0);
+        when(itemRepository.findDependencyEdges(List.of(100L)))
+                .thenReturn(List.of(new DependencyEdge(100L, 3L, "Item 3", ItemStatus.COMPLETED)));
+        
+        // Act
+        ItemResponse result = itemService.toResponse(1L, ItemRow.of(item), FieldSet.ALL);
+        
+        // Assert
+        assertEquals("Item 3", result.getDependencies().get(0).getName());
+        assertTrue(result.isCanBeCompleted());
+        verifyNoInteractions(item.getDependencies());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Item> itemsWithUntouchableDependencies(int count) {
+        List<Item> items = new java.util.ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Item item = new Item("Page item " + i, null, null, testList);
+            item.setId(100L + i);
+            item.setStatus(ItemStatus.NOT_STARTED);
+            item.setDependencies(mock(java.util.Set.class));
+            items.add(item);
+        }
+        return items;
+    }
+    
+    private static List<ItemRow> rows(Item... items) {
+        return Arrays.stream(items).map(ItemRow::of).toList();
+    }
+    
+    private int repositoryCalls() {
+        return mockingDetails(itemRepository).getInvocations().size()
+                + mockingDetails(itemListRepository).getInvocations().size();
+    }
+    
+    @Test
+    void testGetItemRow_Success() {
+        // Arrange
+        when(itemRepository.findOwnedItemRow(1L, 1L, 1L))
+                .thenReturn(Optional.of(new VersionedItemRow(ItemRow.of(testItem1), 5L)));
+        
+        // Act
+        VersionedItemRow result = itemService.getItemRow(1L, 1L);
+        
+        // Assert: ownership, item and list version come from a single query
+        assertNotNull(result);
+        assertEquals("Item 1", result.row().name());
+        assertEquals(5L, result.listVersion());
+        assertEquals(1, repositoryCalls());
+        verifyNoInteractions(itemListRepository, listOwnershipCache);
+    }
+    
+    @Test
+    void testGetItemRow_ListNotOwned() {
+        // Arrange: another user's list reads the same as a missing item
+        when(itemRepository.findOwnedItemRow(1L, 1L, 1L)).thenReturn(Optional.empty());
         
         // Act & Assert
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
-            itemService.getItemById(1L, 1L);
+            itemService.getItemRow(1L, 1L);
         });
         
-        assertEquals("Todo list not found", exception.getMessage());
+        assertEquals("Item not found", exception.getMessage());
     }
     
     @Test
-    void testGetItemById_ItemNotFound() {
+    void testGetItemRow_ItemNotFound() {
         // Arrange
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.empty());
+        when(itemRepository.findOwnedItemRow(1L, 1L, 1L)).thenReturn(Optional.empty());
         
         // Act & Assert
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
-            itemService.getItemById(1L, 1L);
+            itemService.getItemRow(1L, 1L);
         });
         
         assertEquals("Item not found", exception.getMessage());
@@ -288,7 +531,8 @@ public class ItemServiceTests {
         createRequest.setDeadline(LocalDate.now().plusDays(7));
         
         Item newItem = new Item("New Item", "New Description", LocalDate.now().plusDays(7), testList);
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(true);
+        when(itemListRepository.getReferenceById(1L)).thenReturn(testList);
         when(itemRepository.save(any(Item.class))).thenReturn(newItem);
         
         // Act
@@ -296,8 +540,9 @@ public class ItemServiceTests {
         
         // Assert
         assertNotNull(result);
-        verify(itemListRepository).findByIdAndUserId(1L, 1L);
+        verify(listOwnershipCache).isOwner(1L, 1L);
         verify(itemRepository).save(any(Item.class));
+        verify(itemTypeaheadIndex).itemSaved(1L, newItem);
     }
     
     @Test
@@ -308,7 +553,7 @@ public class ItemServiceTests {
         createRequest.setDescription("New Description");
         createRequest.setDeadline(LocalDate.now().plusDays(7));
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
+        when(listOwnershipCache.isOwner(1L, 1L)).thenReturn(false);
         
         // Act & Assert
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -327,8 +572,7 @@ public class ItemServiceTests {
         updateRequest.setDeadline(LocalDate.now().plusDays(10));
         updateRequest.setStatus(ItemStatus.IN_PROGRESS);
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(itemRepository.findOwnedItem(1L, 1L, 1L)).thenReturn(Optional.of(testItem1));
         when(itemRepository.save(any(Item.class))).thenReturn(testItem1);
         
         // Act
@@ -350,8 +594,7 @@ public class ItemServiceTests {
         updateRequest.setDeadline(LocalDate.now().plusDays(10));
         updateRequest.setStatus(ItemStatus.COMPLETED);
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(itemRepository.findOwnedItem(1L, 1L, 1L)).thenReturn(Optional.of(testItem1));
         
         // Act & Assert
         Exception exception = assertThrows(InvalidOperationException.class, () -> {
@@ -375,8 +618,7 @@ public class ItemServiceTests {
         updateRequest.setDeadline(LocalDate.now().plusDays(10));
         updateRequest.setStatus(ItemStatus.IN_PROGRESS);
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(itemRepository.findOwnedItem(1L, 1L, 1L)).thenReturn(Optional.of(testItem1));
         
         // Act & Assert
         Exception exception = assertThrows(InvalidOperationException.class, () -> {
@@ -389,8 +631,7 @@ public class ItemServiceTests {
     @Test
     void testMarkAsComplete_Success() {
         // Arrange
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(itemRepository.findOwnedItem(1L, 1L, 1L)).thenReturn(Optional.of(testItem1));
         when(itemRepository.save(any(Item.class))).thenReturn(testItem1);
         
         // Act
@@ -399,6 +640,9 @@ public class ItemServiceTests {
         // Assert
         assertNotNull(result);
         verify(itemRepository).save(any(Item.class));
+        LocalDate deadline = testItem1.getDeadline();
+        verify(listSummaryService).itemChanged(1L, new ItemSnapshot(ItemStatus.NOT_STARTED, deadline, null),
+                new ItemSnapshot(ItemStatus.COMPLETED, deadline, LocalDate.now()));
     }
     
     @Test
@@ -406,8 +650,7 @@ public class ItemServiceTests {
         // Arrange
         testItem1.getDependencies().add(testItem2); // testItem2 is IN_PROGRESS
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(itemRepository.findOwnedItem(1L, 1L, 1L)).thenReturn(Optional.of(testItem1));
         
         // Act & Assert
         Exception exception = assertThrows(InvalidOperationException.class, () -> {
@@ -420,9 +663,7 @@ public class ItemServiceTests {
     @Test
     void testAddDependency_Success() {
         // Arrange
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
-        when(itemRepository.findByIdAndListId(2L, 1L)).thenReturn(Optional.of(testItem2));
+        when(itemRepository.findOwnedItems(List.of(1L, 2L), 1L, 1L)).thenReturn(List.of(testItem1, testItem2));
         when(itemRepository.save(any(Item.class))).thenReturn(testItem1);
         
         // Act
@@ -435,8 +676,7 @@ public class ItemServiceTests {
     @Test
     void testAddDependency_SelfDependency() {
         // Arrange
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(itemRepository.findOwnedItems(List.of(1L, 1L), 1L, 1L)).thenReturn(List.of(testItem1));
         
         // Act & Assert
         Exception exception = assertThrows(InvalidOperationException.class, () -> {
@@ -451,9 +691,7 @@ public class ItemServiceTests {
         // Arrange
         testItem2.getDependencies().add(testItem1); // testItem2 depends on testItem1
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
-        when(itemRepository.findByIdAndListId(2L, 1L)).thenReturn(Optional.of(testItem2));
+        when(itemRepository.findOwnedItems(List.of(1L, 2L), 1L, 1L)).thenReturn(List.of(testItem1, testItem2));
         
         // Act & Assert (trying to make testItem1 depend on testItem2 would create a circle)
         Exception exception = assertThrows(InvalidOperationException.class, () -> {
@@ -463,14 +701,26 @@ public class ItemServiceTests {
         assertEquals("This would create a circular dependency.", exception.getMessage());
     }
     
+    @Test
+    void testAddDependency_DependencyNotOwned() {
+        // Arrange: the dependency is missing or in another user's list
+        when(itemRepository.findOwnedItems(List.of(1L, 2L), 1L, 1L)).thenReturn(List.of(testItem1));
+        
+        // Act & Assert
+        Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
+            itemService.addDependency(1L, 1L, 2L);
+        });
+        
+        assertEquals("Dependency item not found.", exception.getMessage());
+        verify(itemRepository, times(1)).findOwnedItems(any(), any(), any());
+    }
+    
     @Test
     void testRemoveDependency_Success() {
         // Arrange
         testItem1.getDependencies().add(testItem2);
         
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
-        when(itemRepository.findByIdAndListId(2L, 1L)).thenReturn(Optional.of(testItem2));
+        when(itemRepository.findOwnedItems(List.of(1L, 2L), 1L, 1L)).thenReturn(List.of(testItem1, testItem2));
         when(itemRepository.save(any(Item.class))).thenReturn(testItem1);
         
         // Act
@@ -483,13 +733,15 @@ public class ItemServiceTests {
     @Test
     void testDeleteItem_Success() {
         // Arrange
-        when(itemListRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(testList));
-        when(itemRepository.findByIdAndListId(1L, 1L)).thenReturn(Optional.of(testItem1));
+        when(itemRepository.findOwnedItem(1L, 1L, 1L)).thenReturn(Optional.of(testItem1));
         
         // Act
         itemService.deleteItem(1L, 1L);
         
         // Assert
         verify(itemRepository).delete(testItem1);
+        verify(listSummaryService).itemChanged(1L,
+                new ItemSnapshot(ItemStatus.NOT_STARTED, testItem1.getDeadline(), null), null);
+        verify(itemTypeaheadIndex).itemDeleted(1L, 1L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.kerem.todoApp.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kerem.todoApp.dto.ItemTypeaheadResult;
+import com.kerem.todoApp.model.Item;
+import com.kerem.todoApp.model.ItemList;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.repository.ItemNameRow;
+import com.kerem.todoApp.repository.ItemRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemTypeaheadIndexTests {
+    
+    @Mock
+    private ItemRepository itemRepository;
+    
+    @Mock
+    private MeterRegistry meterRegistry;
+    
+    @InjectMocks
+    private ItemTypeaheadIndex itemTypeaheadIndex;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(itemTypeaheadIndex, "maxBytes", 1_000_000L);
+    }
+    
+    private static ItemNameRow row(long id, long listId, String name) {
+        return new ItemNameRow(id, listId, name, ItemStatus.NOT_STARTED);
+    }
+    
+    private List<Long> ids(Long userId, Long listId, String query, int limit) {
+        return itemTypeaheadIndex.search(userId, listId, query, limit).stream()
+                .map(ItemTypeaheadResult::getItemId)
+                .toList();
+    }
+    
+    @Test
+    void testSearch_MatchesWordPrefixesAndBuildsOnce() {
+        // Arrange
+        when(itemRepository.findNameRowsByUserId(1L)).thenReturn(List.of(
+                row(1L, 1L, "Buy groceries"),
+                row(2L, 1L, "Groom the dog"),
+                row(3L, 2L, "Caf\u00E9 order"),
+                row(4L, 2L, "Pick up dog food")));
+        
+        // Act & Assert: names starting with the query rank first
+        assertEquals(List.of(2L, 1L), ids(1L, null, "gro", 10));
+        assertEquals(List.of(4L), ids(1L, null, "do fo", 10));
+        assertEquals(List.of(3L), ids(1L, null, "CAFE", 10));
+        assertEquals(List.of(), ids(1L, null, "roc", 10));
+        verify(itemRepository, times(1)).findNameRowsByUserId(1L);
+        assertEquals(0.75, itemTypeaheadIndex.hitRatio(), 1e-9);
+    }
+    
+    @Test
+    void testSearch_EmptyQueryListsInNameOrder() {
+        // Arrange
+        when(itemRepository.findNameRowsByUserId(1L)).thenReturn(List.of(
+                row(1L, 1L, "Task 10"),
+                row(2L, 1L, "Task 2"),
+                row(3L, 1L, "Another task"),
+                row(4L, 2L, "Elsewhere")));
+        
+        // Act & Assert
+        assertEquals(List.of(3L, 2L), ids(1L, 1L, "", 2));
+    }
+    
+    @Test
+    void testWrites_UpdateLoadedIndex() {
+        // Arrange
+        when(itemRepository.findNameRowsByUserId(1L)).thenReturn(new ArrayList<>(List.of(row(1L, 1L, "Buy groceries"))));
+        ids(1L, null, "", 10);
+        ItemList list = new ItemList();
+        list.setId(1L);
+        Item item = new Item("Buy milk", null, LocalDate.now(), list);
+        item.setId(2L);
+        
+        // Act
+        itemTypeaheadIndex.itemSaved(1L, item);
+        itemTypeaheadIndex.itemDeleted(1L, 1L);
+        itemTypeaheadIndex.itemStatusChanged(2L, ItemStatus.EXPIRED);
+        
+        // Assert
+        List<ItemTypeaheadResult> results = itemTypeaheadIndex.search(1L, null, "buy", 10);
+        assertEquals(1, results.size());
+        assertEquals("Buy milk", results.get(0).getName());
+        assertEquals(ItemStatus.EXPIRED, results.get(0).getStatus());
+        verify(itemRepository, times(1)).findNameRowsByUserId(1L);
+    }
+    
+    @Test
+    void testSearch_WriteDuringBuildIsNotCached() {
+        // Arrange: an item is deleted while the index is being read
+        when(itemRepository.findNameRowsByUserId(1L)).thenAnswer(invocation -> {
+            itemTypeaheadIndex.itemDeleted(1L, 1L);
+            return List.of(row(1L, 1L, "Buy groceries"));
+        }).thenReturn(List.of());
+        
+        // Act
+        ids(1L, null, "buy", 10);
+        List<Long> afterRebuild = ids(1L, null, "buy", 10);
+        
+        // Assert
+        assertEquals(List.of(), afterRebuild);
+        verify(itemRepository, times(2)).findNameRowsByUserId(1L);
+    }
+    
+    @Test
+    void testSearch_EvictsLeastRecentlyUsedOverBudget() {
+        // Arrange
+        ReflectionTestUtils.setField(itemTypeaheadIndex, "maxBytes", 500L);
+        when(itemRepository.findNameRowsByUserId(1L)).thenReturn(List.of(row(1L, 1L, "Buy groceries")));
+        when(itemRepository.findNameRowsByUserId(2L)).thenReturn(List.of(row(2L, 2L, "Groom the dog")));
+        
+        // Act
+        ids(1L, null, "buy", 10);
+        ids(2L, null, "groom", 10);
+        ids(1L, null, "buy", 10);
+        
+        // Assert
+        assertEquals(1, itemTypeaheadIndex.size());
+        verify(itemRepository, times(2)).findNameRowsByUserId(1L);
+    }
+    
+    @Test
+    void testUserDeleted_DropsIndex() {
+        // Arrange
+        when(itemRepository.findNameRowsByUserId(1L)).thenReturn(List.of(row(1L, 1L, "Buy groceries")));
+        ids(1L, null, "buy", 10);
+        
+        // Act
+        itemTypeaheadIndex.userDeleted(1L);
+        
+        // Assert
+        assertEquals(0, itemTypeaheadIndex.size());
+        assertEquals(0, itemTypeaheadIndex.bytes());
+    }
+}
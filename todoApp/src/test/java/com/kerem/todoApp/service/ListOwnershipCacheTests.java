@@ -0,0 +1,129 @@
+package com.kerem.todoApp.service;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kerem.todoApp.repository.ItemListRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ListOwnershipCacheTests {
+    
+    @Mock
+    private ItemListRepository itemListRepository;
+    
+    @Mock
+    private MeterRegistry meterRegistry;
+    
+    @InjectMocks
+    private ListOwnershipCache listOwnershipCache;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(listOwnershipCache, "maxSize", 2);
+    }
+    
+    @Test
+    void testIsOwner_LoadsOwnerOnce() {
+        // Arrange
+        when(itemListRepository.findUserIdById(1L)).thenReturn(Optional.of(1L));
+        
+        // Act & Assert
+        assertTrue(listOwnershipCache.isOwner(1L, 1L));
+        assertTrue(listOwnershipCache.isOwner(1L, 1L));
+        assertFalse(listOwnershipCache.isOwner(1L, 2L));
+        verify(itemListRepository, times(1)).findUserIdById(1L);
+        assertEquals(2.0 / 3, listOwnershipCache.hitRatio(), 1e-9);
+    }
+    
+    @Test
+    void testIsOwner_MissingListNotCached() {
+        // Arrange
+        when(itemListRepository.findUserIdById(1L)).thenReturn(Optional.empty());
+        
+        // Act & Assert
+        assertFalse(listOwnershipCache.isOwner(1L, 1L));
+        assertFalse(listOwnershipCache.isOwner(1L, 1L));
+        verify(itemListRepository, times(2)).findUserIdById(1L);
+    }
+    
+    @Test
+    void testListCreated_CachedWithoutQuery() {
+        // Act
+        listOwnershipCache.listCreated(1L, 1L);
+        
+        // Assert
+        assertTrue(listOwnershipCache.isOwner(1L, 1L));
+        verifyNoInteractions(itemListRepository);
+    }
+    
+    @Test
+    void testListDeleted_ReusedIdLoadsNewOwner() {
+        // Arrange
+        listOwnershipCache.listCreated(1L, 1L);
+        when(itemListRepository.findUserIdById(1L)).thenReturn(Optional.of(2L));
+        
+        // Act
+        listOwnershipCache.listDeleted(1L);
+        
+        // Assert
+        assertFalse(listOwnershipCache.isOwner(1L, 1L));
+        assertTrue(listOwnershipCache.isOwner(1L, 2L));
+    }
+    
+    @Test
+    void testOwnerDeleted_DropsAllTheirLists() {
+        // Arrange
+        listOwnershipCache.listCreated(1L, 1L);
+        listOwnershipCache.listCreated(2L, 1L);
+        
+        // Act
+        listOwnershipCache.ownerDeleted(1L);
+        
+        // Assert
+        assertEquals(0, listOwnershipCache.size());
+    }
+    
+    @Test
+    void testIsOwner_LookupOverlappingDeleteNotCached() {
+        // Arrange: the list is deleted while its owner is being read
+        when(itemListRepository.findUserIdById(1L)).thenAnswer(invocation -> {
+            listOwnershipCache.listDeleted(1L);
+            return Optional.of(1L);
+        }).thenReturn(Optional.empty());
+        
+        // Act
+        listOwnershipCache.isOwner(1L, 1L);
+        
+        // Assert: the next check goes back to the database
+        assertFalse(listOwnershipCache.isOwner(1L, 1L));
+        verify(itemListRepository, times(2)).findUserIdById(1L);
+    }
+    
+    @Test
+    void testListCreated_StaysWithinMaxSize() {
+        // Act
+        listOwnershipCache.listCreated(1L, 1L);
+        listOwnershipCache.listCreated(2L, 1L);
+        listOwnershipCache.listCreated(3L, 1L);
+        
+        // Assert
+        assertEquals(2, listOwnershipCache.size());
+    }
+}
@@ -0,0 +1,221 @@
+package com.kerem.todoApp.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kerem.todoApp.dto.ListSummaryResponse;
+import com.kerem.todoApp.model.ItemList;
+import com.kerem.todoApp.model.ItemStatus;
+import com.kerem.todoApp.model.ListSummary;
+import com.kerem.todoApp.model.User;
+import com.kerem.todoApp.repository.ItemListRepository;
+import com.kerem.todoApp.repository.ItemRepository;
+import com.kerem.todoApp.repository.ItemStatusCount;
+import com.kerem.todoApp.repository.ListSummaryRepository;
+import com.kerem.todoApp.security.SecurityUtils;
+import com.kerem.todoApp.service.ListSummaryService.ItemSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+public class ListSummaryServiceTests {
+    
+    @Mock
+    private ListSummaryRepository listSummaryRepository;
+    
+    @Mock
+    private ItemListRepository itemListRepository;
+    
+    @Mock
+    private ItemRepository itemRepository;
+    
+    @InjectMocks
+    private ListSummaryService listSummaryService;
+    
+    private MockedStatic<SecurityUtils> securityUtilsMock;
+    private LocalDate today;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now();
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+        lenient().when(listSummaryRepository.save(any(ListSummary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+    
+    @SuppressWarnings("unused")
+    @AfterEach
+    void tearDown() {
+        if (securityUtilsMock != null) {
+            securityUtilsMock.close();
+        }
+    }
+    
+    @Test
+    void testItemChanged_CompletionMovesCounters() {
+        // Arrange
+        ListSummary summary = new ListSummary(1L, today);
+        summary.setNotStarted(1);
+        summary.setNextDeadline(today.plusDays(5));
+        when(listSummaryRepository.findById(1L)).thenReturn(Optional.of(summary));
+        when(itemRepository.findNextDeadline(1L, today)).thenReturn(today.plusDays(9));
+        
+        // Act
+        listSummaryService.itemChanged(1L, new ItemSnapshot(ItemStatus.NOT_STARTED, today.plusDays(5), null),
+                new ItemSnapshot(ItemStatus.COMPLETED, today.plusDays(5), today));
+        
+        // Assert
+        assertEquals(0, summary.getNotStarted());
+        assertEquals(1, summary.getCompleted());
+        assertEquals(1, summary.getRecentCompletions());
+        assertEquals(today.plusDays(9), summary.getNextDeadline());
+    }
+    
+    @Test
+    void testItemChanged_OverdueItemDeleted() {
+        // Arrange
+        ListSummary summary = new ListSummary(1L, today);
+        summary.setInProgress(2);
+        summary.setOverdue(1);
+        summary.setNextDeadline(today.plusDays(1));
+        when(listSummaryRepository.findById(1L)).thenReturn(Optional.of(summary));
+        
+        // Act
+        listSummaryService.itemChanged(1L, new ItemSnapshot(ItemStatus.IN_PROGRESS, today.minusDays(1), null), null);
+        
+        // Assert: nothing is counted again
+        assertEquals(1, summary.getInProgress());
+        assertEquals(0, summary.getOverdue());
+        assertEquals(today.plusDays(1), summary.getNextDeadline());
+        verify(itemRepository, never()).findNextDeadline(anyLong(), any());
+    }
+    
+    @Test
+    void testItemChanged_NewItemMovesNextDeadlineForward() {
+        // Arrange
+        ListSummary summary = new ListSummary(1L, today);
+        summary.setNextDeadline(today.plusDays(5));
+        when(listSummaryRepository.findById(1L)).thenReturn(Optional.of(summary));
+        
+        // Act
+        listSummaryService.itemChanged(1L, null, new ItemSnapshot(ItemStatus.NOT_STARTED, today.plusDays(2), null));
+        
+        // Assert
+        assertEquals(1, summary.getNotStarted());
+        assertEquals(today.plusDays(2), summary.getNextDeadline());
+        assertEquals(0, summary.getOverdue());
+    }
+    
+    @Test
+    void testItemChanged_MissingSummaryBuiltFromItems() {
+        // Arrange
+        when(listSummaryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(itemRepository.countByStatusForLists(List.of(1L))).thenReturn(List.of(
+                new ItemStatusCount(1L, ItemStatus.NOT_STARTED, 3),
+                new ItemStatusCount(1L, ItemStatus.COMPLETED, 2)));
+        when(itemRepository.countOverdue(1L, today)).thenReturn(1L);
+        when(itemRepository.findNextDeadline(1L, today)).thenReturn(today.plusDays(4));
+        when(itemRepository.findCompletionTimes(1L, today.minusDays(6).atStartOfDay()))
+                .thenReturn(List.of(today.atTime(9, 0), today.minusDays(2).atTime(18, 30)));
+        
+        // Act
+        listSummaryService.itemChanged(1L, null, new ItemSnapshot(ItemStatus.NOT_STARTED, null, null));
+        
+        // Assert: built from the items, which already include the write
+        ArgumentCaptor<ListSummary> saved = ArgumentCaptor.forClass(ListSummary.class);
+        verify(listSummaryRepository).save(saved.capture());
+        ListSummary summary = saved.getValue();
+        assertEquals(today, summary.getAsOf());
+        assertEquals(3, summary.getNotStarted());
+        assertEquals(2, summary.getCompleted());
+        assertEquals(1, summary.getOverdue());
+        assertEquals(today.plusDays(4), summary.getNextDeadline());
+        assertEquals(2, summary.getRecentCompletions());
+    }
+    
+    @Test
+    void testRollForwardAll_RecountsOnlyPassedDeadlines() {
+        // Arrange
+        ListSummary passed = new ListSummary(1L, today.minusDays(2));
+        passed.setNextDeadline(today.minusDays(1));
+        passed.setOverdue(1);
+        passed.setCompletionsOn(today.minusDays(3), 3);
+        passed.setCompletionsOn(today.minusDays(7), 5); // Same slot as today, now outside the window
+        ListSummary ahead = new ListSummary(2L, today.minusDays(1));
+        ahead.setNextDeadline(today.plusDays(3));
+        ahead.setOverdue(2);
+        when(listSummaryRepository.findByAsOfBefore(today)).thenReturn(List.of(passed, ahead));
+        when(itemRepository.countOverdue(1L, today)).thenReturn(4L);
+        when(itemRepository.findNextDeadline(1L, today)).thenReturn(null);
+        
+        // Act
+        int rolled = listSummaryService.rollForwardAll();
+        
+        // Assert
+        assertEquals(2, rolled);
+        assertEquals(today, passed.getAsOf());
+        assertEquals(4, passed.getOverdue());
+        assertNull(passed.getNextDeadline());
+        assertEquals(3, passed.getRecentCompletions());
+        assertEquals(0, passed.getCompletionsOn(today));
+        assertEquals(2, ahead.getOverdue());
+        verify(itemRepository, never()).countOverdue(2L, today);
+    }
+    
+    @Test
+    void testGetSummaries_OneRowPerList() {
+        // Arrange
+        User user = new User("testuser", "test@example.com", "password123");
+        user.setId(1L);
+        ItemList work = new ItemList("Work", user);
+        work.setId(1L);
+        ItemList home = new ItemList("Home", user);
+        home.setId(2L);
+        
+        ListSummary summary = new ListSummary(1L, today);
+        summary.setInProgress(2);
+        summary.setCompleted(1);
+        summary.setOverdue(1);
+        summary.setNextDeadline(today.plusDays(3));
+        summary.setCompletionsOn(today, 1);
+        
+        when(itemListRepository.findByUserIdOrderByIdAsc(1L)).thenReturn(List.of(work, home));
+        when(listSummaryRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(summary));
+        when(itemRepository.countByStatusForLists(List.of(2L))).thenReturn(List.of());
+        when(itemRepository.findCompletionTimes(any(), any())).thenReturn(List.of());
+        
+        // Act
+        List<ListSummaryResponse> result = listSummaryService.getSummaries();
+        
+        // Assert
+        assertEquals(2, result.size());
+        ListSummaryResponse first = result.get(0);
+        assertEquals("Work", first.getListName());
+        assertEquals(2L, first.getStatusCounts().get(ItemStatus.IN_PROGRESS));
+        assertEquals(0L, first.getStatusCounts().get(ItemStatus.NOT_STARTED));
+        assertEquals(1, first.getOverdue());
+        assertEquals(today.plusDays(3), first.getNextDeadline());
+        assertEquals(1, first.getCompletedLast7Days());
+        assertEquals(0L, result.get(1).getStatusCounts().get(ItemStatus.COMPLETED));
+        verify(itemRepository, never()).countByStatusForLists(List.of(1L));
+    }
+}
@@ -0,0 +1,73 @@
+package com.kerem.todoApp.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kerem.todoApp.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class UserExistenceFilterTests {
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @InjectMocks
+    private UserExistenceFilter userExistenceFilter;
+    
+    @SuppressWarnings("unused")
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userExistenceFilter, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(userExistenceFilter, "falsePositiveRate", 0.01);
+    }
+    
+    @Test
+    void testUsernameExists_QueriesDatabaseBeforeFirstRebuild() {
+        // Arrange
+        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+        
+        // Act & Assert
+        assertTrue(userExistenceFilter.usernameExists("testuser"));
+    }
+    
+    @Test
+    void testUsernameExists_DefiniteMissSkipsDatabase() {
+        // Arrange
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).thenReturn(0L);
+        userExistenceFilter.rebuild();
+        
+        // Act & Assert
+        assertFalse(userExistenceFilter.usernameExists("newuser"));
+        assertFalse(userExistenceFilter.emailExists("new@example.com"));
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+    
+    @Test
+    void testUsernameExists_AddedUserIsConfirmedByDatabase() {
+        // Arrange
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).thenReturn(0L);
+        when(userRepository.existsByUsername("TestUser")).thenReturn(true);
+        userExistenceFilter.rebuild();
+        userExistenceFilter.add("testuser", "test@example.com");
+        
+        // Act & Assert
+        assertTrue(userExistenceFilter.usernameExists("TestUser"));
+        verify(userRepository).existsByUsername("TestUser");
+    }
+}
@@ -0,0 +1,200 @@
+package com.kerem.todoApp.service;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kerem.todoApp.dto.BulkProvisionResponse;
+import com.kerem.todoApp.dto.BulkProvisionRowResult.Status;
+import com.kerem.todoApp.dto.SignupRequest;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.security.PasswordHashingExecutor;
+import com.kerem.todoApp.security.SecurityVersionRegistry;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+public class UserProvisioningServiceTests {
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private PasswordEncoder encoder;
+    
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+    
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+    
+    @Mock
+    private SecurityVersionRegistry securityVersionRegistry;
+    
+    @InjectMocks
+    private UserProvisioningService userProvisioningService;
+    
+    @SuppressWarnings({"unused", "unchecked"})
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userProvisioningService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(userProvisioningService, "maxRows", 3);
+        ReflectionTestUtils.setField(userProvisioningService, "chunkSize", 500);
+        
+        // Hash inline instead of on the pool
+        lenient().when(passwordHashingExecutor.mapAll(any(), any())).thenAnswer(invocation -> {
+            List<Object> inputs = invocation.getArgument(0);
+            Function<Object, Object> task = invocation.getArgument(1);
+            List<Object> results = new ArrayList<>();
+            inputs.forEach(input -> results.add(task.apply(input)));
+            return results;
+        });
+        lenient().when(encoder.encode(anyString())).thenReturn("encodedPassword");
+    }
+    
+    private static SignupRequest signup(String username, String email, String password) {
+        SignupRequest request = new SignupRequest();
+        request.setUsername(username);
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        doAnswer(invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+    
+    @Test
+    void testProvisionUsers_ReportsEachRow() {
+        // Arrange
+        List<SignupRequest> requests = List.of(
+                signup("alice", "alice@example.com", "password123"),
+                signup("al", "short@example.com", "password123"),
+                signup("alice", "other@example.com", "password123"));
+        when(jdbcTemplate.queryForList(startsWith("SELECT username"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT email"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of());
+        runTransactionsInline();
+        
+        // Act
+        BulkProvisionResponse response = userProvisioningService.provisionUsers(requests);
+        
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertEquals(Status.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(Status.INVALID, response.getResults().get(1).getStatus());
+        assertEquals("Error: Username must be between 3 and 20 characters!", response.getResults().get(1).getMessage());
+        assertEquals(Status.DUPLICATE, response.getResults().get(2).getStatus());
+        verify(userExistenceFilter).add("alice", "alice@example.com");
+    }
+    
+    @Test
+    void testProvisionUsers_ExistingUsersRejected() {
+        // Arrange
+        List<SignupRequest> requests = List.of(
+                signup("alice", "alice@example.com", "password123"),
+                signup("bob", "bob@example.com", "password123"));
+        when(jdbcTemplate.queryForList(startsWith("SELECT username"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of("alice"));
+        when(jdbcTemplate.queryForList(startsWith("SELECT email"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of("bob@example.com"));
+        
+        // Act
+        BulkProvisionResponse response = userProvisioningService.provisionUsers(requests);
+        
+        // Assert
+        assertEquals(0, response.getCreated());
+        assertEquals(Status.ALREADY_EXISTS, response.getResults().get(0).getStatus());
+        assertEquals("Username is already taken!", response.getResults().get(0).getMessage());
+        assertEquals(Status.ALREADY_EXISTS, response.getResults().get(1).getStatus());
+        assertEquals("Email is already in use!", response.getResults().get(1).getMessage());
+    }
+    
+    @Test
+    void testProvisionUsers_ChunkConflictFallsBackToSingleRows() {
+        // Arrange
+        List<SignupRequest> requests = List.of(
+                signup("alice", "alice@example.com", "password123"),
+                signup("bob", "bob@example.com", "password123"));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("UNIQUE constraint failed"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("UNIQUE constraint failed"));
+        
+        // Act
+        BulkProvisionResponse response = userProvisioningService.provisionUsers(requests);
+        
+        // Assert
+        assertEquals(1, response.getCreated());
+        assertEquals(Status.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(Status.ALREADY_EXISTS, response.getResults().get(1).getStatus());
+    }
+    
+    @Test
+    void testProvisionUsers_TooManyRows() {
+        // Arrange
+        List<SignupRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            requests.add(signup("user" + i, "user" + i + "@example.com", "password123"));
+        }
+        
+        // Act & Assert
+        assertThrows(InvalidOperationException.class, () -> userProvisioningService.provisionUsers(requests));
+    }
+    
+    @Test
+    void testParseCsv_HeaderAndQuotedFields() throws Exception {
+        // Arrange
+        String csv = "username,email,password\n"
+                + "alice,alice@example.com,password123\n"
+                + "\n"
+                + "bob,bob@example.com,\"pass,\"\"word\"\"\"\n";
+        
+        // Act
+        List<SignupRequest> requests = userProvisioningService.parseCsv(new StringReader(csv));
+        
+        // Assert
+        assertEquals(2, requests.size());
+        assertEquals("alice", requests.get(0).getUsername());
+        assertEquals("bob@example.com", requests.get(1).getEmail());
+        assertEquals("pass,\"word\"", requests.get(1).getPassword());
+    }
+}
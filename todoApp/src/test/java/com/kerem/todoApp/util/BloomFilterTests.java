@@ -0,0 +1,57 @@
+package com.kerem.todoApp.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTests {
+    
+    @Test
+    void testMightContain_NoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("user" + i);
+        }
+        
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("user" + i));
+        }
+    }
+    
+    @Test
+    void testMightContain_LongPairs() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        for (long i = 0; i < 1000; i++) {
+            filter.put(i, ~i);
+        }
+        
+        for (long i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain(i, ~i));
+        }
+    }
+    
+    @Test
+    void testMightContain_EmptyFilter() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        
+        assertFalse(filter.mightContain("user"));
+    }
+    
+    @Test
+    void testFalsePositiveRate_NearTarget() {
+        BloomFilter filter = BloomFilter.create(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.put("user" + i);
+        }
+        
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        
+        assertTrue(falsePositives < 300, "Too many false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.03);
+    }
+}
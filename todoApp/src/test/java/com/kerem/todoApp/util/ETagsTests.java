@@ -0,0 +1,37 @@
+package com.kerem.todoApp.util;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class ETagsTests {
+    
+    @Test
+    void testOf_SameInputsSameTag() {
+        LocalDate today = LocalDate.of(2025, 1, 15);
+        
+        assertEquals(ETags.of(5L, 1L, null, "Item", 0, 20, today), ETags.of(5L, 1L, null, "Item", 0, 20, today));
+    }
+    
+    @Test
+    void testOf_QuotedWithVersion() {
+        String etag = ETags.of(5L, 1L);
+        
+        assertTrue(etag.startsWith("\"5-"));
+        assertTrue(etag.endsWith("\""));
+    }
+    
+    @Test
+    void testOf_VersionOrPartsChangeTag() {
+        LocalDate today = LocalDate.of(2025, 1, 15);
+        String etag = ETags.of(5L, 1L, 0, 20, today);
+        
+        assertNotEquals(etag, ETags.of(6L, 1L, 0, 20, today));
+        assertNotEquals(etag, ETags.of(5L, 1L, 1, 20, today));
+        assertNotEquals(etag, ETags.of(5L, 1L, 0, 20, today.plusDays(1)));
+        assertNotEquals(ETags.of(5L, "ab", "c"), ETags.of(5L, "a", "bc"));
+    }
+}
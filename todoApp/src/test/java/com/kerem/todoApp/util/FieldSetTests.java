@@ -0,0 +1,62 @@
+package com.kerem.todoApp.util;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.kerem.todoApp.dto.ItemResponse;
+import com.kerem.todoApp.exception.InvalidOperationException;
+import com.kerem.todoApp.model.ItemStatus;
+
+public class FieldSetTests {
+    
+    @Test
+    void testParse_BlankSelectsEverything() {
+        assertSame(FieldSet.ALL, FieldSet.parse(null, ItemResponse.FIELDS.keySet()));
+        assertSame(FieldSet.ALL, FieldSet.parse(" ", ItemResponse.FIELDS.keySet()));
+        assertTrue(FieldSet.ALL.includes("description"));
+    }
+    
+    @Test
+    void testParse_AlwaysIncludesId() {
+        FieldSet fields = FieldSet.parse("status, name,", ItemResponse.FIELDS.keySet());
+        
+        assertTrue(fields.includes("id"));
+        assertTrue(fields.includes("name"));
+        assertFalse(fields.includes("dependencies"));
+        assertEquals("id,name,status", fields.toString());
+    }
+    
+    @Test
+    void testParse_UnknownField() {
+        InvalidOperationException exception = assertThrows(InvalidOperationException.class,
+                () -> FieldSet.parse("name,owner", ItemResponse.FIELDS.keySet()));
+        assertEquals("Unknown field: owner", exception.getMessage());
+    }
+    
+    @Test
+    void testSelect_ProjectsInResponseOrder() {
+        // Arrange
+        ItemResponse item = new ItemResponse();
+        item.setId(1L);
+        item.setName("Item 1");
+        item.setDescription("Long description");
+        item.setStatus(ItemStatus.IN_PROGRESS);
+        
+        // Act
+        Object all = FieldSet.ALL.select(item, ItemResponse.FIELDS);
+        Object some = FieldSet.parse("status,name", ItemResponse.FIELDS.keySet()).select(item, ItemResponse.FIELDS);
+        
+        // Assert
+        assertSame(item, all);
+        Map<?, ?> projected = (Map<?, ?>) some;
+        assertEquals(List.of("id", "name", "status"), List.copyOf(projected.keySet()));
+        assertEquals(ItemStatus.IN_PROGRESS, projected.get("status"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.kerem.todoApp.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class SortKeysTests {
+    
+    @Test
+    void testForName_NumbersInNumericOrder() {
+        assertTrue(SortKeys.forName("Task 2").compareTo(SortKeys.forName("Task 10")) < 0);
+        assertTrue(SortKeys.forName("Task 9 b").compareTo(SortKeys.forName("Task 10 a")) < 0);
+        assertEquals(SortKeys.forName("Task 2"), SortKeys.forName("Task 002"));
+        assertEquals("v010", SortKeys.forName("v0"));
+    }
+    
+    @Test
+    void testForName_IgnoresCaseAndAccents() {
+        assertEquals(SortKeys.forName("eclair"), SortKeys.forName("\u00C9CLAIR"));
+        assertEquals("cafe", SortKeys.forName("Caf\u00E9"));
+    }
+    
+    @Test
+    void testForName_Null() {
+        assertNull(SortKeys.forName(null));
+    }
+}